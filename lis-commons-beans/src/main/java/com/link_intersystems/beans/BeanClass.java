@@ -14,8 +14,8 @@ public abstract class BeanClass<T> {
     protected static final Predicate<? super PropertyDesc> INDEXED_PROPERTY_FILTER = jpd -> jpd instanceof IndexedPropertyDesc;
     protected static final Predicate<? super PropertyDesc> NO_INDEXED_PROPERTY_FILTER = jpd -> !INDEXED_PROPERTY_FILTER.test(jpd);
 
-    private transient PropertyDescList properties;
-    private transient PropertyDescList indexedProperties;
+    private transient volatile PropertyDescList properties;
+    private transient volatile PropertyDescList indexedProperties;
 
     public abstract String getName();
 
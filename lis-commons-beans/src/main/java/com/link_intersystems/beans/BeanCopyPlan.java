@@ -0,0 +1,112 @@
+package com.link_intersystems.beans;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A {@link BeanCopyPlan} is a precompiled {@link Bean#copyProperties(Bean, PropertySelector)} for a source and a
+ * target {@link BeanClass}. The {@link PropertySelector} is evaluated once when the plan is compiled and the
+ * selected properties are kept as a flat array of source and target {@link PropertyDesc} pairs. A plan can therefore
+ * be reused to copy the properties of any number of bean objects, e.g. when mapping entities to DTOs.
+ *
+ * <pre>
+ * BeansFactory beansFactory = BeansFactory.getDefault();
+ * BeanCopyPlan&lt;Person, PersonDTO&gt; copyPlan = BeanCopyPlan.compile(
+ *     beansFactory.getBeanClass(Person.class),
+ *     beansFactory.getBeanClass(PersonDTO.class));
+ *
+ * for (Person person : persons) {
+ *     PersonDTO personDTO = new PersonDTO();
+ *     copyPlan.copy(person, personDTO);
+ * }
+ * </pre>
+ * <p>
+ * A plan copies the same properties as {@link Bean#copyProperties(Bean, PropertySelector)} with the
+ * {@link PropertyCopyStrategies#EXACT} strategy does. Since the {@link PropertySelector} is evaluated without any bean
+ * objects, it must only select properties by their {@link PropertyDesc}. A selector that accesses property values
+ * causes an {@link IllegalStateException} when the plan is compiled.
+ *
+ * @param <S> the source bean type.
+ * @param <T> the target bean type.
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+public class BeanCopyPlan<S, T> {
+
+    private static final Supplier<Object> UNBOUND_BEAN = () -> {
+        throw new IllegalStateException("A PropertySelector that is used to compile a " + BeanCopyPlan.class.getSimpleName()
+                + " must not access property values.");
+    };
+
+    private final PropertyDesc[] sourceProperties;
+    private final PropertyDesc[] targetProperties;
+
+    /**
+     * Compiles a {@link BeanCopyPlan} that selects the target properties using {@link PropertySelectors#BY_NAME}.
+     */
+    public static <S, T> BeanCopyPlan<S, T> compile(BeanClass<S> sourceClass, BeanClass<T> targetClass) {
+        return compile(sourceClass, targetClass, PropertySelectors.BY_NAME);
+    }
+
+    /**
+     * Compiles a {@link BeanCopyPlan} that selects the target properties using the given {@link PropertySelector}.
+     */
+    public static <S, T> BeanCopyPlan<S, T> compile(BeanClass<S> sourceClass, BeanClass<T> targetClass, PropertySelector propertySelector) {
+        requireNonNull(propertySelector);
+        PropertyList sourceProperties = getUnboundProperties(sourceClass);
+        PropertyList targetProperties = getUnboundProperties(targetClass);
+
+        List<PropertyDesc> sourcePropertyDescs = new ArrayList<>();
+        List<PropertyDesc> targetPropertyDescs = new ArrayList<>();
+
+        for (Property sourceProperty : sourceProperties) {
+            Property targetProperty = propertySelector.select(targetProperties, sourceProperty);
+            if (targetProperty != null) {
+                sourcePropertyDescs.add(sourceProperty.getPropertyDesc());
+                targetPropertyDescs.add(targetProperty.getPropertyDesc());
+            }
+        }
+
+        return new BeanCopyPlan<>(sourcePropertyDescs, targetPropertyDescs);
+    }
+
+    private static PropertyList getUnboundProperties(BeanClass<?> beanClass) {
+        List<Property> properties = beanClass.getProperties().stream()
+                .map(propertyDesc -> new DefaultProperty(UNBOUND_BEAN, propertyDesc))
+                .collect(toList());
+        return new PropertyList(properties);
+    }
+
+    private BeanCopyPlan(List<PropertyDesc> sourceProperties, List<PropertyDesc> targetProperties) {
+        this.sourceProperties = sourceProperties.toArray(new PropertyDesc[0]);
+        this.targetProperties = targetProperties.toArray(new PropertyDesc[0]);
+    }
+
+    /**
+     * @return the number of properties this plan copies.
+     */
+    public int size() {
+        return sourceProperties.length;
+    }
+
+    /**
+     * Copies the planned properties from the source bean object to the target bean object.
+     *
+     * @throws PropertyReadException  if a source property can not be read.
+     * @throws PropertyWriteException if a target property can not be written.
+     */
+    public void copy(S source, T target) {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        PropertyDesc[] sourceProperties = this.sourceProperties;
+        PropertyDesc[] targetProperties = this.targetProperties;
+        for (int i = 0; i < sourceProperties.length; i++) {
+            Object value = sourceProperties[i].getPropertyValue(source);
+            targetProperties[i].setPropertyValue(target, value);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.link_intersystems.beans;
 
-import java.util.List;
-import java.util.ServiceLoader;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -11,7 +14,37 @@ import java.util.stream.StreamSupport;
  */
 public abstract class BeansFactory {
 
-    private static BeansFactory DEFAULT_BEANS_FACTORY;
+    private static volatile BeansFactory DEFAULT_BEANS_FACTORY;
+
+    /**
+     * The {@link BeansFactory} types that have been resolved per context class loader and type name.
+     * Class loaders can be garbage collected and therefore we use a weak hash map to prevent memory leaks.
+     * The types are referenced weakly too, because a type that the context class loader loaded would
+     * otherwise keep its key reachable.
+     */
+    private static final Map<ClassLoader, Map<String, WeakReference<Class<? extends BeansFactory>>>> BEANS_FACTORY_TYPES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * The {@link BeansFactory} instances attached to their {@link Class}, so that they do not prevent the
+     * class and its class loader from being unloaded.
+     */
+    private static final ClassValue<AtomicReference<BeansFactory>> BEANS_FACTORIES = new ClassValue<AtomicReference<BeansFactory>>() {
+        @Override
+        protected AtomicReference<BeansFactory> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
+    /**
+     * The {@link BeanClass}es that have been created by {@link #getBeanClass(Class, Class)}. They are attached
+     * to the bean's {@link Class}, so that they do not prevent the class from being unloaded.
+     */
+    private static final ClassValue<ConcurrentMap<BeanClassKey, BeanClass<?>>> BEAN_CLASSES = new ClassValue<ConcurrentMap<BeanClassKey, BeanClass<?>>>() {
+        @Override
+        protected ConcurrentMap<BeanClassKey, BeanClass<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     public static BeansFactory getDefault() {
         if (DEFAULT_BEANS_FACTORY == null) {
@@ -20,7 +53,30 @@ public abstract class BeansFactory {
         return DEFAULT_BEANS_FACTORY;
     }
 
+    /**
+     * Returns the {@link BeansFactory} of the given type that is registered as a {@link ServiceLoader} service
+     * in the current thread's context class loader. The resolved {@link BeansFactory} is cached per context
+     * class loader, so that subsequent calls do not scan the class path again. The cache does not prevent
+     * the context class loader from being garbage collected.
+     */
     public static BeansFactory getInstance(String type) {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        Map<String, WeakReference<Class<? extends BeansFactory>>> beansFactoryTypes = BEANS_FACTORY_TYPES.computeIfAbsent(contextClassLoader, cl -> new ConcurrentHashMap<>());
+
+        WeakReference<Class<? extends BeansFactory>> beansFactoryTypeRef = beansFactoryTypes.get(type);
+        Class<? extends BeansFactory> beansFactoryType = beansFactoryTypeRef == null ? null : beansFactoryTypeRef.get();
+
+        if (beansFactoryType == null) {
+            BeansFactory beansFactory = loadInstance(type);
+            beansFactoryType = beansFactory.getClass();
+            BEANS_FACTORIES.get(beansFactoryType).compareAndSet(null, beansFactory);
+            beansFactoryTypes.put(type, new WeakReference<>(beansFactoryType));
+        }
+
+        return BEANS_FACTORIES.get(beansFactoryType).get();
+    }
+
+    private static BeansFactory loadInstance(String type) {
         ServiceLoader<BeansFactory> loader = ServiceLoader.load(BeansFactory.class);
         Stream<BeansFactory> beansFactoryStream = StreamSupport.stream(loader.spliterator(), false);
         List<BeansFactory> beansFactories = beansFactoryStream
@@ -53,6 +109,38 @@ public abstract class BeansFactory {
 
     public abstract String getTypeName();
 
+    /**
+     * Returns a {@link BeanClass} for the given bean class. The {@link BeanClass} is created by
+     * {@link #createBeanClass(Class, Class)} on the first request and shared by all subsequent requests of
+     * this type of {@link BeansFactory}.
+     */
+    public <T> BeanClass<T> getBeanClass(Class<T> beanClass) throws BeanClassException {
+        return getBeanClass(beanClass, null);
+    }
+
+    /**
+     * Returns a {@link BeanClass} for the given bean class and stop class. The {@link BeanClass} is created by
+     * {@link #createBeanClass(Class, Class)} on the first request and shared by all subsequent requests of
+     * this type of {@link BeansFactory}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> BeanClass<T> getBeanClass(Class<T> beanClass, Class<?> stopClass) throws BeanClassException {
+        ConcurrentMap<BeanClassKey, BeanClass<?>> beanClasses = BEAN_CLASSES.get(beanClass);
+        BeanClassKey beanClassKey = new BeanClassKey(getClass(), stopClass);
+
+        BeanClass<T> cachedBeanClass = (BeanClass<T>) beanClasses.get(beanClassKey);
+        if (cachedBeanClass == null) {
+            cachedBeanClass = createBeanClass(beanClass, stopClass);
+            if (cachedBeanClass != null) {
+                BeanClass<T> concurrentBeanClass = (BeanClass<T>) beanClasses.putIfAbsent(beanClassKey, cachedBeanClass);
+                if (concurrentBeanClass != null) {
+                    cachedBeanClass = concurrentBeanClass;
+                }
+            }
+        }
+        return cachedBeanClass;
+    }
+
     public <T> BeanClass<T> createBeanClass(Class<T> beanClass) throws BeanClassException {
         return createBeanClass(beanClass, null);
     }
@@ -65,7 +153,31 @@ public abstract class BeansFactory {
 
     @SuppressWarnings("unchecked")
     public <T> Bean<T> createBean(T bean, Class<?> stopClass) throws BeanClassException {
-        BeanClass<T> beanClass = (BeanClass<T>) createBeanClass(bean.getClass(), stopClass);
+        BeanClass<T> beanClass = (BeanClass<T>) getBeanClass(bean.getClass(), stopClass);
         return beanClass.getBeanFromInstance(bean);
     }
+
+    private static class BeanClassKey {
+
+        private final Class<?> beansFactoryType;
+        private final Class<?> stopClass;
+
+        BeanClassKey(Class<?> beansFactoryType, Class<?> stopClass) {
+            this.beansFactoryType = beansFactoryType;
+            this.stopClass = stopClass;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            BeanClassKey that = (BeanClassKey) o;
+            return beansFactoryType == that.beansFactoryType && stopClass == that.stopClass;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * beansFactoryType.hashCode() + Objects.hashCode(stopClass);
+        }
+    }
 }
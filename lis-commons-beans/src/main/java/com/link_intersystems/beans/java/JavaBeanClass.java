@@ -42,13 +42,13 @@ public class JavaBeanClass<T> extends BeanClass<T> implements Serializable {
 
     private BeanInfo beanInfo;
 
-    private transient JavaPropertyDescriptors propertyDescriptors;
+    private transient volatile JavaPropertyDescriptors propertyDescriptors;
 
-    private transient List<JavaPropertyDesc> javaPropertyDescs;
+    private transient volatile List<JavaPropertyDesc> javaPropertyDescs;
 
-    private transient PropertyDescList allProperties;
+    private transient volatile PropertyDescList allProperties;
 
-    private BeanEventTypeList beanEventTypes;
+    private volatile BeanEventTypeList beanEventTypes;
 
     JavaBeanClass(Class<T> beanType) throws BeanClassException {
         this(beanType, null);
@@ -5,6 +5,7 @@ import com.link_intersystems.beans.PropertyReadException;
 import com.link_intersystems.beans.PropertyWriteException;
 
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.text.MessageFormat;
@@ -17,8 +18,28 @@ import static java.util.Objects.requireNonNull;
  */
 public class JavaPropertyDesc implements PropertyDesc {
 
+    /**
+     * Whether a subclass overrides the deprecated {@link #invoke(Method, Object, Object...)}.
+     */
+    private static final ClassValue<Boolean> INVOKE_OVERRIDDEN = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> current = type; current != JavaPropertyDesc.class; current = current.getSuperclass()) {
+                try {
+                    current.getDeclaredMethod("invoke", Method.class, Object.class, Object[].class);
+                    return true;
+                } catch (NoSuchMethodException e) {
+                    // not overridden by this class
+                }
+            }
+            return false;
+        }
+    };
+
     private PropertyDescriptor propertyDescriptor;
     private Class<?> type;
+    private MethodHandle readHandle;
+    private MethodHandle writeHandle;
 
     JavaPropertyDesc(PropertyDescriptor propertyDescriptor) {
         this.propertyDescriptor = requireNonNull(propertyDescriptor);
@@ -27,13 +48,11 @@ public class JavaPropertyDesc implements PropertyDesc {
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getPropertyValue(Object bean) throws PropertyReadException {
-        PropertyDescriptor javaPropertyDescriptor = getJavaPropertyDescriptor();
-        Method readMethod = javaPropertyDescriptor.getReadMethod();
-        if (readMethod == null) {
+        if (!isReadable()) {
             throw new PropertyReadException(bean.getClass(), getName());
         }
         try {
-            Object beanValue = invoke(readMethod, bean);
+            Object beanValue = invokeReadMethod(bean);
             return (T) beanValue;
         } catch (InvocationTargetException | IllegalAccessException e) {
             throw new PropertyReadException(bean.getClass(), getName(), e);
@@ -43,23 +62,78 @@ public class JavaPropertyDesc implements PropertyDesc {
 
     @Override
     public void setPropertyValue(Object bean, Object value) {
-        PropertyDescriptor javaPropertyDescriptor = getJavaPropertyDescriptor();
-        Method writeMethod = javaPropertyDescriptor.getWriteMethod();
-        if (writeMethod == null) {
+        if (!isWritable()) {
             throw new PropertyWriteException(bean.getClass(), getName());
         }
         try {
-            invoke(writeMethod, bean, value);
+            invokeWriteMethod(bean, value);
         } catch (InvocationTargetException | IllegalAccessException e) {
             throw new PropertyWriteException(bean.getClass(), getName(), e);
         }
     }
 
+    /**
+     * Invokes the read method of this property. The read method is compiled to a {@link MethodHandle}
+     * on first access and reused for subsequent invocations. If a subclass overrides the deprecated
+     * {@link #invoke(Method, Object, Object...)}, the read method is invoked through it.
+     */
+    protected Object invokeReadMethod(Object bean) throws IllegalAccessException, InvocationTargetException {
+        if (INVOKE_OVERRIDDEN.get(getClass())) {
+            return invoke(propertyDescriptor.getReadMethod(), bean);
+        }
+        return invokeReadHandle(bean);
+    }
 
+    /**
+     * Invokes the write method of this property. The write method is compiled to a {@link MethodHandle}
+     * on first access and reused for subsequent invocations. If a subclass overrides the deprecated
+     * {@link #invoke(Method, Object, Object...)}, the write method is invoked through it.
+     */
+    protected void invokeWriteMethod(Object bean, Object value) throws IllegalAccessException, InvocationTargetException {
+        if (INVOKE_OVERRIDDEN.get(getClass())) {
+            invoke(propertyDescriptor.getWriteMethod(), bean, value);
+            return;
+        }
+        invokeWriteHandle(bean, value);
+    }
+
+    /**
+     * Invokes the given method like {@link Method#invoke(Object, Object...)} does. The read and write method
+     * of this property are invoked through their {@link MethodHandle}s.
+     *
+     * @deprecated override {@link #invokeReadMethod(Object)} or {@link #invokeWriteMethod(Object, Object)} instead.
+     * Overrides of this method are still invoked for the read and write method.
+     */
+    @Deprecated
     protected Object invoke(Method method, Object target, Object... args) throws IllegalAccessException, InvocationTargetException {
+        if (args.length == 0 && method.equals(propertyDescriptor.getReadMethod())) {
+            return invokeReadHandle(target);
+        }
+        if (args.length == 1 && method.equals(propertyDescriptor.getWriteMethod())) {
+            invokeWriteHandle(target, args[0]);
+            return null;
+        }
         return method.invoke(target, args);
     }
 
+    private Object invokeReadHandle(Object bean) throws IllegalAccessException, InvocationTargetException {
+        MethodHandle readHandle = this.readHandle;
+        if (readHandle == null) {
+            readHandle = PropertyMethodHandles.readHandle(propertyDescriptor.getReadMethod());
+            this.readHandle = readHandle;
+        }
+        return PropertyMethodHandles.invokeRead(readHandle, bean);
+    }
+
+    private void invokeWriteHandle(Object bean, Object value) throws IllegalAccessException, InvocationTargetException {
+        MethodHandle writeHandle = this.writeHandle;
+        if (writeHandle == null) {
+            writeHandle = PropertyMethodHandles.writeHandle(propertyDescriptor.getWriteMethod());
+            this.writeHandle = writeHandle;
+        }
+        PropertyMethodHandles.invokeWrite(writeHandle, bean, value);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,105 @@
+package com.link_intersystems.beans.java;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Compiles property accessor {@link Method}s to {@link MethodHandle}s of a fixed erased type, so that they can be
+ * invoked through {@link MethodHandle#invokeExact(Object...)} without an argument array and without the
+ * access checks {@link Method#invoke(Object, Object...)} does on every call.
+ * <p>
+ * The handles behave like {@link Method#invoke(Object, Object...)} regarding exceptions. Exceptions thrown by
+ * the accessor method are wrapped in an {@link InvocationTargetException}, a target or argument of the wrong type
+ * or a <code>null</code> value for a primitive parameter causes an {@link IllegalArgumentException} and a
+ * <code>null</code> target a {@link NullPointerException}. If the accessor method can not be accessed through a
+ * {@link MethodHandles.Lookup} the handles fall back to reflective invocation.
+ *
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+class PropertyMethodHandles {
+
+    private static final MethodType READ_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType WRITE_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodHandle METHOD_INVOKE;
+    private static final MethodHandle WRAP_TARGET_EXCEPTION;
+
+    static {
+        try {
+            METHOD_INVOKE = LOOKUP.findVirtual(Method.class, "invoke", MethodType.methodType(Object.class, Object.class, Object[].class));
+            WRAP_TARGET_EXCEPTION = LOOKUP.findStatic(PropertyMethodHandles.class, "wrapTargetException", MethodType.methodType(Object.class, Throwable.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private PropertyMethodHandles() {
+    }
+
+    /**
+     * @return a {@link MethodHandle} of type <code>(Object)Object</code> that invokes the given read method.
+     */
+    static MethodHandle readHandle(Method readMethod) {
+        return toHandle(readMethod).asType(READ_TYPE);
+    }
+
+    /**
+     * @return a {@link MethodHandle} of type <code>(Object,Object)void</code> that invokes the given write method.
+     */
+    static MethodHandle writeHandle(Method writeMethod) {
+        return toHandle(writeMethod).asType(WRITE_TYPE);
+    }
+
+    static Object invokeRead(MethodHandle readHandle, Object bean) throws IllegalAccessException, InvocationTargetException {
+        requireNonNull(bean);
+        try {
+            return (Object) readHandle.invokeExact(bean);
+        } catch (ClassCastException e) {
+            throw argumentTypeMismatch(e);
+        } catch (IllegalAccessException | InvocationTargetException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    static void invokeWrite(MethodHandle writeHandle, Object bean, Object value) throws IllegalAccessException, InvocationTargetException {
+        requireNonNull(bean);
+        try {
+            writeHandle.invokeExact(bean, value);
+        } catch (ClassCastException | NullPointerException e) {
+            // exceptions of the write method are wrapped. Thus a NullPointerException can only be raised
+            // by unboxing a null value for a primitive parameter.
+            throw argumentTypeMismatch(e);
+        } catch (IllegalAccessException | InvocationTargetException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    private static IllegalArgumentException argumentTypeMismatch(RuntimeException e) {
+        return new IllegalArgumentException("argument type mismatch", e);
+    }
+
+    private static MethodHandle toHandle(Method method) {
+        try {
+            MethodHandle methodHandle = LOOKUP.unreflect(method);
+            MethodHandle exceptionWrapper = WRAP_TARGET_EXCEPTION.asType(MethodType.methodType(method.getReturnType(), Throwable.class));
+            return MethodHandles.catchException(methodHandle, Throwable.class, exceptionWrapper);
+        } catch (IllegalAccessException e) {
+            return METHOD_INVOKE.bindTo(method).asCollector(Object[].class, method.getParameterCount());
+        }
+    }
+
+    private static Object wrapTargetException(Throwable targetException) throws InvocationTargetException {
+        throw new InvocationTargetException(targetException);
+    }
+}
@@ -0,0 +1,96 @@
+package com.link_intersystems.beans;
+
+import com.link_intersystems.beans.BeanCopyPlanTest.PersonDTO;
+import com.link_intersystems.beans.BeanCopyPlanTest.PersonEntity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares the throughput of a {@link BeanCopyPlan} with {@link Bean#copyProperties(Bean)} and hand-written
+ * getter/setter code. Run it as a java application, e.g. from within your IDE.
+ * <p>
+ * Each copy's result is folded into a checksum that is published to a volatile field after each measurement,
+ * so that the JIT can not eliminate the copies. The results are printed after all measurements are done.
+ *
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+public class BeanCopyPlanBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final int COPIES_PER_ITERATION = 1_000_000;
+
+    static volatile long sink;
+
+    public static void main(String[] args) {
+        BeansFactory beansFactory = BeansFactory.getDefault();
+        BeanClass<PersonEntity> sourceClass = beansFactory.getBeanClass(PersonEntity.class, Object.class);
+        BeanClass<PersonDTO> targetClass = beansFactory.getBeanClass(PersonDTO.class, Object.class);
+        BeanCopyPlan<PersonEntity, PersonDTO> copyPlan = BeanCopyPlan.compile(sourceClass, targetClass);
+
+        PersonEntity personEntity = new PersonEntity();
+        personEntity.setFirstname("René");
+        personEntity.setLastname("Link");
+        personEntity.setAge(45);
+
+        Map<String, Copy> copies = new LinkedHashMap<>();
+        copies.put("Bean.copyProperties", () -> {
+            PersonDTO personDTO = new PersonDTO();
+            Bean<PersonEntity> source = sourceClass.getBeanFromInstance(personEntity);
+            source.copyProperties(targetClass.getBeanFromInstance(personDTO));
+            return personDTO;
+        });
+        copies.put("BeanCopyPlan.copy", () -> {
+            PersonDTO personDTO = new PersonDTO();
+            copyPlan.copy(personEntity, personDTO);
+            return personDTO;
+        });
+        copies.put("hand-written", () -> {
+            PersonDTO personDTO = new PersonDTO();
+            personDTO.setFirstname(personEntity.getFirstname());
+            personDTO.setLastname(personEntity.getLastname());
+            return personDTO;
+        });
+
+        Map<String, Double> nanosPerCopy = new LinkedHashMap<>();
+        for (Map.Entry<String, Copy> copy : copies.entrySet()) {
+            nanosPerCopy.put(copy.getKey(), run(copy.getValue()));
+        }
+
+        for (Map.Entry<String, Double> result : nanosPerCopy.entrySet()) {
+            System.out.printf("%-20s %10.1f ns/copy%n", result.getKey(), result.getValue());
+        }
+        System.out.println("checksum " + sink);
+    }
+
+    private static double run(Copy copy) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            measure(copy);
+        }
+
+        long totalNanos = 0;
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            totalNanos += measure(copy);
+        }
+
+        return (double) totalNanos / (MEASUREMENT_ITERATIONS * (long) COPIES_PER_ITERATION);
+    }
+
+    private static long measure(Copy copy) {
+        long checksum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < COPIES_PER_ITERATION; i++) {
+            PersonDTO personDTO = copy.copy();
+            checksum += personDTO.getFirstname().length() + personDTO.getLastname().hashCode();
+        }
+        long duration = System.nanoTime() - start;
+        sink += checksum;
+        return duration;
+    }
+
+    private static interface Copy {
+
+        public PersonDTO copy();
+    }
+}
@@ -0,0 +1,139 @@
+package com.link_intersystems.beans;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+class BeanCopyPlanTest {
+
+    private BeanClass<PersonEntity> sourceClass;
+    private BeanClass<PersonDTO> targetClass;
+
+    @BeforeEach
+    void setUp() {
+        BeansFactory beansFactory = BeansFactory.getDefault();
+        sourceClass = beansFactory.getBeanClass(PersonEntity.class, Object.class);
+        targetClass = beansFactory.getBeanClass(PersonDTO.class, Object.class);
+    }
+
+    @Test
+    void copyByName() {
+        BeanCopyPlan<PersonEntity, PersonDTO> copyPlan = BeanCopyPlan.compile(sourceClass, targetClass);
+
+        PersonEntity personEntity = new PersonEntity();
+        personEntity.setFirstname("René");
+        personEntity.setLastname("Link");
+        personEntity.setAge(45);
+        PersonDTO personDTO = new PersonDTO();
+
+        copyPlan.copy(personEntity, personDTO);
+
+        assertEquals(2, copyPlan.size());
+        assertEquals("René", personDTO.getFirstname());
+        assertEquals("Link", personDTO.getLastname());
+    }
+
+    @Test
+    void copySameAsBeanCopyProperties() {
+        BeanCopyPlan<PersonEntity, PersonDTO> copyPlan = BeanCopyPlan.compile(sourceClass, targetClass);
+
+        PersonEntity personEntity = new PersonEntity();
+        personEntity.setFirstname("René");
+        personEntity.setLastname("Link");
+
+        PersonDTO planCopy = new PersonDTO();
+        copyPlan.copy(personEntity, planCopy);
+
+        PersonDTO beanCopy = new PersonDTO();
+        sourceClass.getBeanFromInstance(personEntity).copyProperties(targetClass.getBeanFromInstance(beanCopy));
+
+        assertEquals(beanCopy.getFirstname(), planCopy.getFirstname());
+        assertEquals(beanCopy.getLastname(), planCopy.getLastname());
+    }
+
+    @Test
+    void copyWithPropertySelector() {
+        PropertySelector firstnameOnly = (propertyList, propertyTemplate) -> {
+            if ("firstname".equals(propertyTemplate.getPropertyDesc().getName())) {
+                return PropertySelectors.BY_NAME.select(propertyList, propertyTemplate);
+            }
+            return null;
+        };
+        BeanCopyPlan<PersonEntity, PersonDTO> copyPlan = BeanCopyPlan.compile(sourceClass, targetClass, firstnameOnly);
+
+        PersonEntity personEntity = new PersonEntity();
+        personEntity.setFirstname("René");
+        personEntity.setLastname("Link");
+        PersonDTO personDTO = new PersonDTO();
+
+        copyPlan.copy(personEntity, personDTO);
+
+        assertEquals(1, copyPlan.size());
+        assertEquals("René", personDTO.getFirstname());
+        assertNull(personDTO.getLastname());
+    }
+
+    @Test
+    void propertySelectorAccessesValue() {
+        PropertySelector valueSelector = (propertyList, propertyTemplate) -> propertyTemplate.getValue() == null ? null : propertyTemplate;
+
+        assertThrows(IllegalStateException.class, () -> BeanCopyPlan.compile(sourceClass, targetClass, valueSelector));
+    }
+
+    public static class PersonEntity {
+
+        private String firstname;
+        private String lastname;
+        private int age;
+
+        public String getFirstname() {
+            return firstname;
+        }
+
+        public void setFirstname(String firstname) {
+            this.firstname = firstname;
+        }
+
+        public String getLastname() {
+            return lastname;
+        }
+
+        public void setLastname(String lastname) {
+            this.lastname = lastname;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
+
+    public static class PersonDTO {
+
+        private String firstname;
+        private String lastname;
+
+        public String getFirstname() {
+            return firstname;
+        }
+
+        public void setFirstname(String firstname) {
+            this.firstname = firstname;
+        }
+
+        public String getLastname() {
+            return lastname;
+        }
+
+        public void setLastname(String lastname) {
+            this.lastname = lastname;
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package com.link_intersystems.beans;
 
+import com.link_intersystems.beans.java.SomeBean;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.Collections;
 import java.util.Enumeration;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author René Link {@literal <rene.link@link-intersystems.com>}
@@ -21,6 +26,23 @@ class BeansFactoryTest {
         assertNotNull(beansFactory);
     }
 
+    @Test
+    void getInstanceIsCached() {
+        BeansFactory beansFactory = BeansFactory.getInstance("java");
+        assertSame(beansFactory, BeansFactory.getInstance("java"));
+    }
+
+    @Test
+    void getBeanClassIsCached() {
+        BeansFactory beansFactory = BeansFactory.getDefault();
+
+        BeanClass<SomeBean> beanClass = beansFactory.getBeanClass(SomeBean.class);
+
+        assertSame(beanClass, beansFactory.getBeanClass(SomeBean.class));
+        assertNotSame(beanClass, beansFactory.getBeanClass(SomeBean.class, Object.class));
+        assertSame(beanClass, beansFactory.createBean(new SomeBean()).getBeanClass());
+    }
+
     @Test
     void getInstance() {
         ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
@@ -65,4 +87,81 @@ class BeansFactoryTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    void getInstanceDoesNotPreventClassLoaderCollection() throws InterruptedException {
+        WeakReference<ClassLoader> classLoaderRef = getInstanceInOwnClassLoader();
+
+        for (int i = 0; i < 50 && classLoaderRef.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertNull(classLoaderRef.get());
+    }
+
+    private WeakReference<ClassLoader> getInstanceInOwnClassLoader() {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            ClassLoader classLoader = new BeansFactoryClassLoader(ClassLoaderBeansFactory.class);
+            Thread.currentThread().setContextClassLoader(classLoader);
+
+            BeansFactory beansFactory = BeansFactory.getInstance("classLoader");
+            assertSame(classLoader, beansFactory.getClass().getClassLoader());
+            assertSame(beansFactory, BeansFactory.getInstance("classLoader"));
+
+            return new WeakReference<>(classLoader);
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    /**
+     * Loads the given {@link BeansFactory} class itself and provides it as the only {@link BeansFactory} service.
+     */
+    private static class BeansFactoryClassLoader extends ClassLoader {
+
+        private final Class<? extends BeansFactory> beansFactoryType;
+
+        BeansFactoryClassLoader(Class<? extends BeansFactory> beansFactoryType) {
+            super(BeansFactoryTest.class.getClassLoader());
+            this.beansFactoryType = beansFactoryType;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!beansFactoryType.getName().equals(name)) {
+                return super.loadClass(name, resolve);
+            }
+
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loadedClass = findLoadedClass(name);
+                if (loadedClass == null) {
+                    String resourceName = name.replace('.', '/') + ".class";
+                    try (InputStream in = getParent().getResourceAsStream(resourceName)) {
+                        byte[] bytes = readAll(in);
+                        loadedClass = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return loadedClass;
+            }
+        }
+
+        private static byte[] readAll(InputStream in) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) {
+            URL classLoaderBeansFactory = BeansFactoryTest.class.getResource("classLoaderBeansFactory");
+            return Collections.enumeration(Collections.singletonList(classLoaderBeansFactory));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.link_intersystems.beans;
+
+/**
+ * A {@link BeansFactory} that {@link BeansFactoryTest} loads in its own class loader.
+ *
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+public class ClassLoaderBeansFactory extends BeansFactory {
+    @Override
+    public String getTypeName() {
+        return "classLoader";
+    }
+
+    @Override
+    public <T> BeanClass<T> createBeanClass(Class<T> beanClass, Class<?> stopClass) throws BeanClassException {
+        return null;
+    }
+}
@@ -23,8 +23,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -109,6 +112,74 @@ class PropertyTest extends AbstractPropertyTest<String> {
         assertEquals("writeOnlyProperty", toString);
     }
 
+    @Test
+    void readAndWrite() throws IntrospectionException {
+        JavaPropertyDesc countProperty = new JavaPropertyDesc(new PropertyDescriptor("count", CountBean.class));
+        CountBean countBean = new CountBean();
+
+        countProperty.setPropertyValue(countBean, 42);
+
+        assertEquals(42, countBean.getCount());
+        assertEquals(Integer.valueOf(42), countProperty.getPropertyValue(countBean));
+    }
+
+    @Test
+    void exceptionThrownByReadMethod() throws IntrospectionException {
+        JavaPropertyDesc failingProperty = new JavaPropertyDesc(new PropertyDescriptor("failing", CountBean.class));
+
+        PropertyReadException propertyReadException = assertThrows(PropertyReadException.class, () -> failingProperty.getPropertyValue(new CountBean()));
+
+        Throwable cause = propertyReadException.getCause();
+        assertTrue(cause instanceof InvocationTargetException);
+        assertEquals("read failed", ((InvocationTargetException) cause).getTargetException().getMessage());
+    }
+
+    @Test
+    void exceptionThrownByWriteMethod() throws IntrospectionException {
+        JavaPropertyDesc failingProperty = new JavaPropertyDesc(new PropertyDescriptor("failing", CountBean.class));
+
+        PropertyWriteException propertyWriteException = assertThrows(PropertyWriteException.class, () -> failingProperty.setPropertyValue(new CountBean(), "value"));
+
+        Throwable cause = propertyWriteException.getCause();
+        assertTrue(cause instanceof InvocationTargetException);
+        assertEquals("write failed", ((InvocationTargetException) cause).getTargetException().getMessage());
+    }
+
+    @Test
+    void nullBean() throws IntrospectionException {
+        JavaPropertyDesc countProperty = new JavaPropertyDesc(new PropertyDescriptor("count", CountBean.class));
+
+        assertThrows(NullPointerException.class, () -> countProperty.getPropertyValue(null));
+        assertThrows(NullPointerException.class, () -> countProperty.setPropertyValue(null, 1));
+    }
+
+    @Test
+    void nullPrimitiveValue() throws IntrospectionException {
+        JavaPropertyDesc countProperty = new JavaPropertyDesc(new PropertyDescriptor("count", CountBean.class));
+
+        assertThrows(IllegalArgumentException.class, () -> countProperty.setPropertyValue(new CountBean(), null));
+    }
+
+    @Test
+    void wrongValueType() throws IntrospectionException {
+        JavaPropertyDesc countProperty = new JavaPropertyDesc(new PropertyDescriptor("count", CountBean.class));
+
+        assertThrows(IllegalArgumentException.class, () -> countProperty.setPropertyValue(new CountBean(), "42"));
+    }
+
+    @Test
+    void deprecatedInvokeOverride() throws IntrospectionException {
+        InvokeRecordingPropertyDesc countProperty = new InvokeRecordingPropertyDesc(new PropertyDescriptor("count", CountBean.class));
+        CountBean countBean = new CountBean();
+
+        countProperty.setPropertyValue(countBean, 42);
+        assertEquals(Integer.valueOf(42), countProperty.getPropertyValue(countBean));
+
+        assertEquals(2, countProperty.invokedMethods.size());
+        assertEquals("setCount", countProperty.invokedMethods.get(0).getName());
+        assertEquals("getCount", countProperty.invokedMethods.get(1).getName());
+    }
+
     @Override
     protected JavaProperty getReadOnlyProperty() {
         return someBeanFixture.readOnlyProperty;
@@ -155,15 +226,62 @@ class PropertyTest extends AbstractPropertyTest<String> {
         }
 
         @Override
-        protected Object invoke(Method method, Object target, Object... args) throws IllegalAccessException, InvocationTargetException {
+        protected Object invokeReadMethod(Object bean) throws IllegalAccessException, InvocationTargetException {
+            throwExceptionIfSet();
+            return super.invokeReadMethod(bean);
+        }
+
+        @Override
+        protected void invokeWriteMethod(Object bean, Object value) throws IllegalAccessException, InvocationTargetException {
+            throwExceptionIfSet();
+            super.invokeWriteMethod(bean, value);
+        }
+
+        private void throwExceptionIfSet() throws IllegalAccessException, InvocationTargetException {
             if (illegalAccessException != null) {
                 throw illegalAccessException;
             }
             if (invocationTargetException != null) {
                 throw invocationTargetException;
             }
-            return super.invoke(method, target, args);
         }
 
     }
+
+    public static class CountBean {
+
+        private int count;
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public String getFailing() {
+            throw new IllegalStateException("read failed");
+        }
+
+        public void setFailing(String failing) {
+            throw new IllegalStateException("write failed");
+        }
+    }
+
+    private static class InvokeRecordingPropertyDesc extends JavaPropertyDesc {
+
+        private List<Method> invokedMethods = new ArrayList<>();
+
+        InvokeRecordingPropertyDesc(PropertyDescriptor propertyDescriptor) {
+            super(propertyDescriptor);
+        }
+
+        @SuppressWarnings("deprecation")
+        @Override
+        protected Object invoke(Method method, Object target, Object... args) throws IllegalAccessException, InvocationTargetException {
+            invokedMethods.add(method);
+            return super.invoke(method, target, args);
+        }
+    }
 }
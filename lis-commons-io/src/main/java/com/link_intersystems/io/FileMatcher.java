@@ -1,61 +1,94 @@
 package com.link_intersystems.io;
 
 import java.io.File;
-import java.net.URI;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
-import java.nio.file.Paths;
 import java.util.List;
 
 /**
+ * Matches files and directories by {@link PathMatcher}s that are applied to the path relative to the basepath.
+ * The relative path is only computed if a {@link PathMatcher} has to be evaluated.
+ *
  * @author René Link {@literal <rene.link@link-intersystems.com>}
  */
 class FileMatcher {
 
+    private static final PathMatcher[] NO_MATCHERS = new PathMatcher[0];
+
     private Path basepath;
-    private List<PathMatcher> includeFileMatchers;
-    private List<PathMatcher> excludeFileMatchers;
+    private Path absoluteBasepath;
+
+    private PathMatcher[] includeFileMatchers;
+    private PathMatcher[] excludeFileMatchers;
 
-    private List<PathMatcher> includeDirMatchers;
-    private List<PathMatcher> excludeDirMatchers;
+    private PathMatcher[] includeDirMatchers;
+    private PathMatcher[] excludeDirMatchers;
 
     public FileMatcher(Path basepath, List<PathMatcher> includeFileMatchers,
                        List<PathMatcher> excludeFileMatchers,
                        List<PathMatcher> includeDirMatchers,
                        List<PathMatcher> excludeDirMatchers) {
         this.basepath = basepath;
-        this.includeFileMatchers = includeFileMatchers;
-        this.excludeFileMatchers = excludeFileMatchers;
-        this.includeDirMatchers = includeDirMatchers;
-        this.excludeDirMatchers = excludeDirMatchers;
+        this.absoluteBasepath = basepath.toAbsolutePath();
+        this.includeFileMatchers = includeFileMatchers.toArray(NO_MATCHERS);
+        this.excludeFileMatchers = excludeFileMatchers.toArray(NO_MATCHERS);
+        this.includeDirMatchers = includeDirMatchers.toArray(NO_MATCHERS);
+        this.excludeDirMatchers = excludeDirMatchers.toArray(NO_MATCHERS);
     }
 
     protected Path relativize(File file) {
-        URI relativizedUri = basepath.toUri().relativize(file.toPath().toUri());
-        return Paths.get(relativizedUri.getPath());
+        return relativize(file.toPath());
+    }
+
+    protected Path relativize(Path path) {
+        if (path.isAbsolute() == basepath.isAbsolute()) {
+            return basepath.relativize(path);
+        }
+        return absoluteBasepath.relativize(path.toAbsolutePath());
     }
 
     public boolean isFileMatch(File file) {
-        
-        Path basepathRelativePath = relativize(file);
-        return includeFileMatchers.stream().anyMatch(pm -> pm.matches(basepathRelativePath)) &&
-                excludeFileMatchers.stream().noneMatch(pm -> pm.matches(basepathRelativePath));
+        return isFileMatch(file.toPath());
+    }
+
+    public boolean isFileMatch(Path path) {
+        return isMatch(path, includeFileMatchers, excludeFileMatchers);
     }
 
     public boolean isDirMatch(File file) {
-        Path basepathRelativePath = relativize(file);
-        return includeDirMatchers.stream().anyMatch(pm -> pm.matches(basepathRelativePath)) &&
-                excludeDirMatchers.stream().noneMatch(pm -> pm.matches(basepathRelativePath));
+        return isDirMatch(file.toPath());
     }
 
+    public boolean isDirMatch(Path path) {
+        return isMatch(path, includeDirMatchers, excludeDirMatchers);
+    }
+
+    private boolean isMatch(Path path, PathMatcher[] includeMatchers, PathMatcher[] excludeMatchers) {
+        if (includeMatchers.length == 0) {
+            return false;
+        }
+
+        Path basepathRelativePath = relativize(path);
+        return anyMatch(includeMatchers, basepathRelativePath) && !anyMatch(excludeMatchers, basepathRelativePath);
+    }
 
     public boolean processDirectory(File file) {
-        Path basepathRelativePath = relativize(file);
-        if (includeDirMatchers.isEmpty()) {
-            if (excludeDirMatchers.isEmpty()) {
+        return processDirectory(file.toPath());
+    }
+
+    public boolean processDirectory(Path path) {
+        if (excludeDirMatchers.length == 0) {
+            return true;
+        }
+        return !anyMatch(excludeDirMatchers, relativize(path));
+    }
+
+    private static boolean anyMatch(PathMatcher[] pathMatchers, Path path) {
+        for (PathMatcher pathMatcher : pathMatchers) {
+            if (pathMatcher.matches(path)) {
                 return true;
             }
         }
-        return excludeDirMatchers.stream().noneMatch(pm -> pm.matches(basepathRelativePath));
+        return false;
     }
 }
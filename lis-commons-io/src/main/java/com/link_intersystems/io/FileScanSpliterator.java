@@ -0,0 +1,112 @@
+package com.link_intersystems.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Spliterator} that lists one directory at a time and emits the files and directories that match a
+ * {@link FileMatcher}. The subdirectories that still have to be listed are kept in a stack, so that a
+ * {@link #trySplit()} can hand half of them over to another {@link Spliterator}.
+ * <p>
+ * A directory's entries are read completely when the directory is listed. Thus no directory handle is kept open
+ * between two calls.
+ *
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+class FileScanSpliterator implements Spliterator<Path> {
+
+    private final FileMatcher fileMatcher;
+    private final Deque<Path> pendingDirs;
+    private final Deque<Path> matches = new ArrayDeque<>();
+
+    FileScanSpliterator(FileMatcher fileMatcher, Path dir) {
+        this(fileMatcher, new ArrayDeque<>());
+        pendingDirs.push(requireNonNull(dir));
+    }
+
+    private FileScanSpliterator(FileMatcher fileMatcher, Deque<Path> pendingDirs) {
+        this.fileMatcher = requireNonNull(fileMatcher);
+        this.pendingDirs = pendingDirs;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Path> action) {
+        while (matches.isEmpty()) {
+            if (pendingDirs.isEmpty()) {
+                return false;
+            }
+            scanDir(pendingDirs.pop());
+        }
+
+        action.accept(matches.poll());
+        return true;
+    }
+
+    private void scanDir(Path dir) {
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+            for (Path entry : entries) {
+                BasicFileAttributes attributes = IOTasks.readAttributes(entry);
+                if (attributes == null) {
+                    continue;
+                }
+
+                if (attributes.isRegularFile()) {
+                    if (fileMatcher.isFileMatch(entry)) {
+                        matches.add(entry);
+                    }
+                } else if (attributes.isDirectory()) {
+                    if (fileMatcher.isDirMatch(entry)) {
+                        matches.add(entry);
+                    }
+                    if (fileMatcher.processDirectory(entry)) {
+                        pendingDirs.push(entry);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Splits off half of the directories that have not been listed yet. If only one directory is pending,
+     * it is listed first to discover its subdirectories.
+     */
+    @Override
+    public Spliterator<Path> trySplit() {
+        if (pendingDirs.size() == 1) {
+            scanDir(pendingDirs.pop());
+        }
+
+        int splitSize = pendingDirs.size() / 2;
+        if (splitSize == 0) {
+            return null;
+        }
+
+        Deque<Path> splitDirs = new ArrayDeque<>(splitSize);
+        for (int i = 0; i < splitSize; i++) {
+            splitDirs.push(pendingDirs.pollLast());
+        }
+        return new FileScanSpliterator(fileMatcher, splitDirs);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return DISTINCT | NONNULL;
+    }
+}
@@ -1,14 +1,20 @@
 package com.link_intersystems.io;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.FileSystem;
+import java.nio.file.FileSystemException;
 import java.nio.file.FileSystems;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.asList;
 import static java.util.Objects.requireNonNull;
@@ -61,42 +67,64 @@ public class FileScanner {
         this.excludeDirPatterns.addAll(Arrays.asList(excludeGlobPatterns));
     }
 
+    /**
+     * @throws IllegalArgumentException if the basepath or one of the scanned subdirectories can not be listed.
+     */
     public List<File> scan(Path basepath) {
-        return scan(basepath.toFile());
+        try {
+            return stream(basepath).map(Path::toFile).collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            IOException ioException = e.getCause();
+            Path dir = basepath;
+            if (ioException instanceof FileSystemException && ((FileSystemException) ioException).getFile() != null) {
+                dir = fs.getPath(((FileSystemException) ioException).getFile());
+            }
+            throw notADirectory(dir, ioException);
+        }
     }
 
+    /**
+     * @throws IllegalArgumentException if the baseDir or one of the scanned subdirectories can not be listed.
+     */
     public List<File> scan(File baseDir) {
-        FileMatcher fileMatcher = createFileMatcher(baseDir.toPath());
-
-        return scanDir(fileMatcher, baseDir);
+        return scan(baseDir.toPath());
     }
 
-    private List<File> scanDir(FileMatcher fileMatcher, File dir) {
-        List<File> fileMatches = new ArrayList<>();
-
-        File[] files = dir.listFiles();
-        if (files == null) {
-            throw new IllegalArgumentException("The abstract pathname of '" + dir +
-                    "' does not denote a directory, " +
-                    "or an I/O error occurs.");
+    /**
+     * Returns a lazy {@link Stream} of the files and directories that match. A directory is not listed before the
+     * stream's consumer requests more elements than the directories listed so far provided. Thus the first matches
+     * are available immediately, even if the scanned directory tree is large. The order of the matches is not
+     * specified.
+     * <p>
+     * I/O errors that occur while the stream is consumed are thrown as {@link java.io.UncheckedIOException}s.
+     *
+     * @see #parallelStream(Path)
+     */
+    public Stream<Path> stream(Path basepath) {
+        if (!Files.isDirectory(basepath)) {
+            throw notADirectory(basepath, null);
         }
-        for (File file : files) {
 
-            if (file.isFile() && fileMatcher.isFileMatch(file)) {
-                fileMatches.add(file);
-            } else if (file.isDirectory() && fileMatcher.isDirMatch(file)) {
-                fileMatches.add(file);
-            }
-
-            if (file.isDirectory() && fileMatcher.processDirectory(file)) {
-                List<File> matchingSubFiles = scanDir(fileMatcher, file);
-                fileMatches.addAll(matchingSubFiles);
-            }
-        }
+        FileMatcher fileMatcher = createFileMatcher(basepath);
+        return StreamSupport.stream(new FileScanSpliterator(fileMatcher, basepath), false);
+    }
 
-        return fileMatches;
+    private static IllegalArgumentException notADirectory(Path dir, IOException cause) {
+        return new IllegalArgumentException("The abstract pathname of '" + dir +
+                "' does not denote a directory, " +
+                "or an I/O error occurs.", cause);
     }
 
+    /**
+     * Returns a parallel {@link Stream} of the files and directories that match. The stream is split by the
+     * subdirectories that have not been listed yet, so that subdirectories are scanned concurrently in the
+     * {@link java.util.concurrent.ForkJoinPool} the stream is executed in.
+     *
+     * @see #stream(Path)
+     */
+    public Stream<Path> parallelStream(Path basepath) {
+        return stream(basepath).parallel();
+    }
 
     private FileMatcher createFileMatcher(Path basepath) {
         List<PathMatcher> includeFilePathMatchers = toPathMatchers(includeFilePatterns);
@@ -117,9 +145,12 @@ public class FileScanner {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Creates a {@link PathMatcher} for the glob pattern. Simple patterns like <code>**&#47;*.java</code> are
+     * matched without a regular expression.
+     */
     protected PathMatcher createPathMatcher(String globPattern) {
-        globPattern = globPattern.startsWith("glob:") ? globPattern : "glob:" + globPattern;
-        return fs.getPathMatcher(globPattern);
+        return GlobPathMatchers.create(fs, globPattern);
     }
 
 }
@@ -0,0 +1,166 @@
+package com.link_intersystems.io;
+
+import java.nio.file.FileSystem;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+
+/**
+ * Creates {@link PathMatcher}s for glob patterns. Simple patterns that are common in file scans, like
+ * <code>*.java</code>, <code>**&#47;*.java</code>, <code>**&#47;pom.xml</code>, <code>src/**</code> or plain paths,
+ * are matched by comparing the path's string instead of evaluating the regular expression that
+ * {@link FileSystem#getPathMatcher(String)} compiles. They follow the semantics of that regular expression,
+ * e.g. <code>**</code> does not match line terminators, because it is translated to <code>.*</code>.
+ * <p>
+ * The simple matchers are only used for file systems that use <code>/</code> as separator, since
+ * other file systems might match names case-insensitive.
+ *
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+class GlobPathMatchers {
+
+    /**
+     * Matches the name part of a path's string that starts at the begin index.
+     */
+    private interface NameMatcher {
+        boolean matches(String pathName, int beginIndex);
+    }
+
+    private static final String GLOB_SYNTAX = "glob:";
+    private static final String ANY_PATH = "**";
+    private static final String ANY_PARENT = "**/";
+    private static final String ANY_CHILD = "/**";
+
+    private GlobPathMatchers() {
+    }
+
+    /**
+     * @param globPattern a glob pattern with or without the <code>glob:</code> syntax prefix.
+     */
+    static PathMatcher create(FileSystem fs, String globPattern) {
+        String glob = globPattern.startsWith(GLOB_SYNTAX) ? globPattern.substring(GLOB_SYNTAX.length()) : globPattern;
+
+        PathMatcher pathMatcher = null;
+        if ("/".equals(fs.getSeparator())) {
+            pathMatcher = createSimpleMatcher(glob);
+        }
+
+        if (pathMatcher == null) {
+            pathMatcher = fs.getPathMatcher(GLOB_SYNTAX + glob);
+        }
+        return pathMatcher;
+    }
+
+    private static PathMatcher createSimpleMatcher(String glob) {
+        if (ANY_PATH.equals(glob)) {
+            return path -> {
+                String pathName = path.toString();
+                return isAnyChars(pathName, 0, pathName.length());
+            };
+        }
+
+        if (glob.startsWith(ANY_PARENT)) {
+            // **/name requires a / in front of the name, because ** is followed by a /
+            NameMatcher nameMatcher = createNameMatcher(glob.substring(ANY_PARENT.length()));
+            if (nameMatcher != null) {
+                return path -> {
+                    String pathName = path.toString();
+                    int separatorIndex = pathName.lastIndexOf('/');
+                    return separatorIndex != -1 && isAnyChars(pathName, 0, separatorIndex)
+                            && nameMatcher.matches(pathName, separatorIndex + 1);
+                };
+            }
+            return null;
+        }
+
+        if (glob.endsWith(ANY_CHILD)) {
+            String prefix = glob.substring(0, glob.length() - ANY_CHILD.length() + 1);
+            if (isLiteral(prefix)) {
+                return path -> {
+                    String pathName = path.toString();
+                    return pathName.startsWith(prefix) && isAnyChars(pathName, prefix.length(), pathName.length());
+                };
+            }
+            return null;
+        }
+
+        if (glob.indexOf('/') == -1) {
+            NameMatcher nameMatcher = createNameMatcher(glob);
+            if (nameMatcher != null) {
+                return path -> {
+                    String pathName = path.toString();
+                    return pathName.indexOf('/') == -1 && nameMatcher.matches(pathName, 0);
+                };
+            }
+            return null;
+        }
+
+        if (isLiteral(glob)) {
+            return path -> path.toString().equals(glob);
+        }
+
+        return null;
+    }
+
+    /**
+     * @return a matcher for a single path name, e.g. <code>pom.xml</code> or <code>*.java</code>, or null
+     * if the name pattern is not simple.
+     */
+    private static NameMatcher createNameMatcher(String namePattern) {
+        if (namePattern.indexOf('/') != -1) {
+            return null;
+        }
+
+        if (isLiteral(namePattern)) {
+            return (pathName, beginIndex) -> pathName.length() - beginIndex == namePattern.length()
+                    && pathName.startsWith(namePattern, beginIndex);
+        }
+
+        if (namePattern.charAt(0) == '*') {
+            String suffix = namePattern.substring(1);
+            if (isLiteral(suffix)) {
+                // * is translated to [^/]*, which also matches line terminators.
+                return (pathName, beginIndex) -> pathName.length() - beginIndex >= suffix.length()
+                        && pathName.endsWith(suffix);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @return true if the regular expression <code>.*</code>, that <code>**</code> is translated to, matches the
+     * characters from the begin index (inclusive) to the end index (exclusive). The <code>.</code> does not
+     * match line terminators.
+     */
+    private static boolean isAnyChars(String pathName, int beginIndex, int endIndex) {
+        for (int i = beginIndex; i < endIndex; i++) {
+            switch (pathName.charAt(i)) {
+                case '\n':
+                case '\r':
+                case '\u0085':
+                case '\u2028':
+                case '\u2029':
+                    return false;
+                default:
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLiteral(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            switch (pattern.charAt(i)) {
+                case '*':
+                case '?':
+                case '[':
+                case ']':
+                case '{':
+                case '}':
+                case '\\':
+                    return false;
+                default:
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,89 @@
+package com.link_intersystems.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Helpers that the file system walks and the parallel io tasks of this library share. They are public, because
+ * they are used by several packages, but they are not intended to be used by clients.
+ *
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+public final class IOTasks {
+
+    private IOTasks() {
+    }
+
+    /**
+     * Reads the attributes of a directory entry.
+     *
+     * @return the attributes or <code>null</code> if they can not be read, e.g. because the entry has been deleted in
+     * the meantime or is a broken link. Such an entry is neither a file nor a directory.
+     */
+    public static BasicFileAttributes readAttributes(Path entry, LinkOption... linkOptions) {
+        try {
+            return Files.readAttributes(entry, BasicFileAttributes.class, linkOptions);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Waits for the tasks in the order they complete, so that the first task that fails is reported. The task count
+     * is queried after each completed task, so that tasks can submit further tasks before they complete.
+     *
+     * @param interruptedMessage the message of the {@link InterruptedIOException} that is thrown if the calling
+     *                           thread is interrupted.
+     * @throws IOException the first {@link IOException} a task threw.
+     */
+    public static void awaitCompletion(CompletionService<?> completionService, IntSupplier taskCount,
+                                       String interruptedMessage) throws IOException {
+        try {
+            for (int completed = 0; completed < taskCount.getAsInt(); completed++) {
+                completionService.take().get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(interruptedMessage);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Waits until the {@link ExecutorService} terminated, even if the calling thread is interrupted, so that no
+     * task uses a resource after the caller released it. The interrupt status is restored afterwards.
+     */
+    public static void awaitTermination(ExecutorService executorService) {
+        boolean interrupted = false;
+        while (!executorService.isTerminated()) {
+            try {
+                executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
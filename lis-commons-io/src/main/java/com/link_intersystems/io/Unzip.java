@@ -7,10 +7,23 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
 /**
+ * Extracts zip archives. Entries that would be extracted outside of the target directory are rejected
+ * (zip slip protection).
+ * <p>
+ * Archives that are available as files can be {@link #unzip(File, Path, int) extracted in parallel}.
+ *
  * @author René Link {@literal <rene.link@link-intersystems.com>}
  */
 public class Unzip {
@@ -54,6 +67,83 @@ public class Unzip {
 
     }
 
+    public static void unzip(Path source, Path target, int parallelism) throws IOException {
+        unzip(source.toFile(), target, parallelism);
+    }
+
+    /**
+     * Extracts the zip file using up to parallelism threads. The entries are read via the zip file's central
+     * directory so that they can be inflated and written concurrently. All entries are checked and all
+     * directories are created before any file is extracted. If the archive contains the same file more than once,
+     * the last entry is extracted, like {@link #unzip(InputStream, Path)} does.
+     * <p>
+     * If an extraction fails, the exception of the first extraction that failed is thrown and the
+     * remaining extractions are cancelled.
+     *
+     * @param parallelism the maximum number of files that are extracted concurrently.
+     */
+    public static void unzip(File source, Path target, int parallelism) throws IOException {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be 1 or greater");
+        }
+
+        try (ZipFile zipFile = new ZipFile(source)) {
+            Map<Path, ZipEntry> fileEntries = prepareTargets(zipFile, target);
+            if (fileEntries.isEmpty()) {
+                return;
+            }
+
+            ExecutorService executorService = Executors.newFixedThreadPool(Math.min(parallelism, fileEntries.size()));
+            try {
+                CompletionService<Void> extractions = new ExecutorCompletionService<>(executorService);
+                for (Map.Entry<Path, ZipEntry> fileEntry : fileEntries.entrySet()) {
+                    Path filePath = fileEntry.getKey();
+                    ZipEntry zipEntry = fileEntry.getValue();
+                    extractions.submit(() -> extract(zipFile, zipEntry, filePath));
+                }
+
+                IOTasks.awaitCompletion(extractions, fileEntries::size, "Interrupted while extracting");
+            } finally {
+                executorService.shutdownNow();
+                // no extraction must use the zip file anymore, because it is closed afterwards.
+                IOTasks.awaitTermination(executorService);
+            }
+        }
+    }
+
+    /**
+     * Creates all directories and returns the target paths of the files in archive order.
+     */
+    private static Map<Path, ZipEntry> prepareTargets(ZipFile zipFile, Path target) throws IOException {
+        Map<Path, ZipEntry> fileEntries = new LinkedHashMap<>();
+
+        Enumeration<? extends ZipEntry> entries = zipFile.entries();
+        while (entries.hasMoreElements()) {
+            ZipEntry zipEntry = entries.nextElement();
+            Path newPath = zipSlipProtect(zipEntry, target);
+
+            if (zipEntry.isDirectory()) {
+                Files.createDirectories(newPath);
+            } else {
+                Path parent = newPath.getParent();
+                if (parent != null && Files.notExists(parent)) {
+                    Files.createDirectories(parent);
+                }
+                fileEntries.remove(newPath);
+                fileEntries.put(newPath, zipEntry);
+            }
+        }
+
+        return fileEntries;
+    }
+
+    private static Void extract(ZipFile zipFile, ZipEntry zipEntry, Path filePath) throws IOException {
+        try (InputStream entryInputStream = zipFile.getInputStream(zipEntry)) {
+            Files.copy(entryInputStream, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return null;
+    }
+
     public static Path zipSlipProtect(ZipEntry zipEntry, Path targetDir)
             throws IOException {
 
@@ -10,6 +10,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class Directory extends AbstractFile {
 
@@ -114,4 +115,64 @@ public class Directory extends AbstractFile {
             }
         }
     }
+
+    /**
+     * Invokes the given {@link IOConsumer} for each {@link RegularFile} in this directory and its subdirectories
+     * that match the given file filter. The directories are listed concurrently by up to parallelism threads,
+     * which hides the latency of file systems with slow directory listings, e.g. network file systems.
+     * <p>
+     * Like {@link #forEachFiles(IOConsumer, DirectoryStream.Filter)} symbolic links to regular files are visited.
+     * Symbolic links to directories are not followed.
+     * <p>
+     * The {@link IOConsumer} and the file filter are invoked concurrently and must therefore be thread-safe.
+     * The files are not consumed in any particular order. If a directory can not be listed or the
+     * {@link IOConsumer} raises an exception, the walk is stopped and the exception is rethrown.
+     *
+     * @param maxDepth    the maximum number of directory levels to visit. 1 means that only the files in this
+     *                    directory are visited.
+     * @param parallelism the maximum number of directories that are listed concurrently.
+     * @throws IOException
+     */
+    public void forEachFiles(IOConsumer<RegularFile> fileConsumer, DirectoryStream.Filter<Path> fileFilter, int maxDepth, int parallelism) throws IOException {
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("maxDepth must be 0 or greater");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be 1 or greater");
+        }
+
+        new ParallelFileWalker(fileConsumer, fileFilter, maxDepth).walk(getPath(), parallelism);
+    }
+
+    /**
+     * @return a lazily populated {@link Stream} of all regular files in this directory and its subdirectories.
+     * @throws IOException
+     * @see #walkFiles(int)
+     */
+    public Stream<RegularFile> walkFiles() throws IOException {
+        return walkFiles(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a lazily populated {@link Stream} of the regular files in this directory and its subdirectories.
+     * The directories are listed while the {@link Stream} is consumed. The {@link Stream} keeps directories
+     * open and must therefore be closed, e.g. by a try-with-resources statement.
+     * <p>
+     * Like {@link #listFiles()} symbolic links to regular files are returned. Symbolic links to directories are
+     * not followed.
+     *
+     * <pre>
+     * try (Stream&lt;RegularFile&gt; files = directory.walkFiles(2)) {
+     *     ...
+     * }
+     * </pre>
+     *
+     * @param maxDepth the maximum number of directory levels to visit. 1 means that only the files in this
+     *                 directory are returned.
+     * @throws IOException
+     * @see Files#find(Path, int, java.util.function.BiPredicate, java.nio.file.FileVisitOption...)
+     */
+    public Stream<RegularFile> walkFiles(int maxDepth) throws IOException {
+        return Files.find(getPath(), maxDepth, ParallelFileWalker::isRegularFile).map(RegularFile::new);
+    }
 }
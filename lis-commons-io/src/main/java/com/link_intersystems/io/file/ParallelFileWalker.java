@@ -0,0 +1,98 @@
+package com.link_intersystems.io.file;
+
+import com.link_intersystems.io.IOConsumer;
+import com.link_intersystems.io.IOTasks;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Walks a directory tree by listing each directory in a task of a bounded thread pool. A task submits a new task
+ * for each subdirectory it finds, so that the directories are listed concurrently. This hides the latency of
+ * file systems with slow directory listings, e.g. network file systems.
+ * <p>
+ * Symbolic links to regular files are visited, but symbolic links to directories are not followed, so that
+ * link cycles can not cause an endless walk.
+ *
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+class ParallelFileWalker {
+
+    private final IOConsumer<RegularFile> fileConsumer;
+    private final DirectoryStream.Filter<Path> fileFilter;
+    private final int maxDepth;
+
+    private final AtomicInteger submittedDirs = new AtomicInteger();
+    private CompletionService<Void> completionService;
+
+    /**
+     * @param maxDepth the maximum number of directory levels to visit. 1 means that only the files of the start
+     *                 directory are visited.
+     */
+    ParallelFileWalker(IOConsumer<RegularFile> fileConsumer, DirectoryStream.Filter<Path> fileFilter, int maxDepth) {
+        this.fileConsumer = requireNonNull(fileConsumer);
+        this.fileFilter = requireNonNull(fileFilter);
+        this.maxDepth = maxDepth;
+    }
+
+    void walk(Path dir, int parallelism) throws IOException {
+        if (maxDepth < 1) {
+            return;
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(parallelism);
+        try {
+            completionService = new ExecutorCompletionService<>(executorService);
+            submit(dir, 1);
+            // a directory's task submits its subdirectories before it completes. Thus, when as many tasks
+            // completed as have been submitted, no task is left.
+            IOTasks.awaitCompletion(completionService, submittedDirs::get, "Interrupted while walking directories");
+        } finally {
+            executorService.shutdownNow();
+            // no file must be consumed after the walk returned.
+            IOTasks.awaitTermination(executorService);
+        }
+    }
+
+    private void submit(Path dir, int depth) {
+        submittedDirs.incrementAndGet();
+        completionService.submit(() -> {
+            visit(dir, depth);
+            return null;
+        });
+    }
+
+    private void visit(Path dir, int depth) throws IOException {
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+            for (Path entry : entries) {
+                BasicFileAttributes attributes = IOTasks.readAttributes(entry, LinkOption.NOFOLLOW_LINKS);
+                if (attributes == null) {
+                    continue;
+                }
+
+                if (attributes.isDirectory()) {
+                    if (depth < maxDepth) {
+                        submit(entry, depth + 1);
+                    }
+                } else if (isRegularFile(entry, attributes) && fileFilter.accept(entry)) {
+                    fileConsumer.accept(new RegularFile(entry));
+                }
+            }
+        }
+    }
+
+    static boolean isRegularFile(Path path, BasicFileAttributes nofollowAttributes) {
+        return nofollowAttributes.isRegularFile() || nofollowAttributes.isSymbolicLink() && Files.isRegularFile(path);
+    }
+}
@@ -2,19 +2,57 @@ package com.link_intersystems.io.file;
 
 import com.link_intersystems.io.IOConsumer;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.nio.file.OpenOption;
 import java.nio.file.Path;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.StandardOpenOption.*;
-
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A regular file whose content can be written or appended.
+ * <p>
+ * The content is written through a {@link FileChannel}. Character content is buffered using the
+ * {@link #setBufferSize(int) buffer size} and byte content can be written directly from {@link ByteBuffer}s.
+ * The {@link #setForcePolicy(ForcePolicy) force policy} defines if the content is forced to the storage device
+ * before a write or append returns.
+ */
 public class RegularFile extends AbstractFile {
 
+    /**
+     * Defines if and how the content is forced to the storage device after it has been written.
+     *
+     * @see FileChannel#force(boolean)
+     */
+    public enum ForcePolicy {
+        /**
+         * The content is not forced. The operating system writes it to the storage device when it decides to.
+         */
+        NONE,
+        /**
+         * The file's content is forced to the storage device.
+         */
+        CONTENT,
+        /**
+         * The file's content and metadata, like the last modification time, are forced to the storage device.
+         */
+        CONTENT_AND_METADATA
+    }
+
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private ForcePolicy forcePolicy = ForcePolicy.NONE;
 
     /**
      * Creates a {@link RegularFile} based on the given {@link File}.
@@ -48,6 +86,33 @@ public class RegularFile extends AbstractFile {
         append(IOConsumer.noop());
     }
 
+    /**
+     * Sets the size of the character buffer that is used to write or append content through an {@link Appendable}.
+     * Defaults to {@link #DEFAULT_BUFFER_SIZE}. Large generated content is usually written faster with a larger buffer.
+     */
+    public void setBufferSize(int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be 1 or greater");
+        }
+        this.bufferSize = bufferSize;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the {@link ForcePolicy} that is applied after content has been written or appended.
+     * Defaults to {@link ForcePolicy#NONE}.
+     */
+    public void setForcePolicy(ForcePolicy forcePolicy) {
+        this.forcePolicy = requireNonNull(forcePolicy);
+    }
+
+    public ForcePolicy getForcePolicy() {
+        return forcePolicy;
+    }
+
     @Override
     public Directory getParent() {
         Path parent = getPath().getParent();
@@ -89,10 +154,56 @@ public class RegularFile extends AbstractFile {
      * @throws IOException if the file is an existent directory or if the content could not be written.
      */
     public void write(IOConsumer<Appendable> contentWriter, Charset charset) throws IOException {
+        writeContent(contentWriter, charset, CREATE, TRUNCATE_EXISTING, WRITE);
+    }
+
+    /**
+     * Writes the content of the given {@link ByteBuffer}s to this {@link RegularFile}. The bytes are
+     * written directly to the file without any intermediate copy.
+     * <p>
+     * Parent directories and the file are created like {@link #write(IOConsumer, Charset)} does.
+     * If the file already exists, it will be overwritten.
+     *
+     * @param content the buffers whose remaining bytes are written. Their positions are advanced.
+     * @throws IOException if the file is an existent directory or if the content could not be written.
+     */
+    public void write(ByteBuffer... content) throws IOException {
+        writeContent(content, CREATE, TRUNCATE_EXISTING, WRITE);
+    }
+
+    private void writeContent(IOConsumer<Appendable> contentWriter, Charset charset, OpenOption... options) throws IOException {
+        ensureParentDirs();
+
+        try (FileChannel channel = FileChannel.open(getPath(), options);
+             Writer writer = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel), charset), bufferSize)) {
+            contentWriter.accept(writer);
+            writer.flush();
+            force(channel);
+        }
+    }
+
+    private void writeContent(ByteBuffer[] content, OpenOption... options) throws IOException {
         ensureParentDirs();
 
-        try (PrintWriter pw = new PrintWriter(new OutputStreamWriter(Files.newOutputStream(getPath(), CREATE, TRUNCATE_EXISTING), charset))) {
-            contentWriter.accept(pw);
+        try (FileChannel channel = FileChannel.open(getPath(), options)) {
+            for (ByteBuffer buffer : content) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            force(channel);
+        }
+    }
+
+    private void force(FileChannel channel) throws IOException {
+        switch (forcePolicy) {
+            case CONTENT:
+                channel.force(false);
+                break;
+            case CONTENT_AND_METADATA:
+                channel.force(true);
+                break;
+            default:
         }
     }
 
@@ -122,10 +233,19 @@ public class RegularFile extends AbstractFile {
      * @throws IOException if the file is an existent directory or if the content could not be appended.
      */
     public void append(IOConsumer<Appendable> contentWriter, Charset charset) throws IOException {
-        ensureParentDirs();
+        writeContent(contentWriter, charset, CREATE, APPEND);
+    }
 
-        try (PrintWriter pw = new PrintWriter(new OutputStreamWriter(Files.newOutputStream(getPath(), CREATE, APPEND), charset))) {
-            contentWriter.accept(pw);
-        }
+    /**
+     * Appends the content of the given {@link ByteBuffer}s to this {@link RegularFile}. The bytes are
+     * written directly to the file without any intermediate copy.
+     * <p>
+     * Parent directories and the file are created like {@link #append(IOConsumer, Charset)} does.
+     *
+     * @param content the buffers whose remaining bytes are appended. Their positions are advanced.
+     * @throws IOException if the file is an existent directory or if the content could not be appended.
+     */
+    public void append(ByteBuffer... content) throws IOException {
+        writeContent(content, CREATE, APPEND);
     }
 }
\ No newline at end of file
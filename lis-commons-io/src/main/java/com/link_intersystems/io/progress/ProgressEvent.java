@@ -5,12 +5,12 @@ import java.util.Objects;
 
 public class ProgressEvent extends EventObject {
 
-    private final int min;
-    private final int max;
-    private final int value;
+    private final long min;
+    private final long max;
+    private final long value;
 
 
-    public ProgressEvent(Object source, int min, int max, int value) {
+    public ProgressEvent(Object source, long min, long max, long value) {
         super(source);
         if (max < min) {
             throw new IllegalArgumentException("max must be equal to or greater than min");
@@ -27,15 +27,15 @@ public class ProgressEvent extends EventObject {
         return getValue() >= getMax();
     }
 
-    public int getMin() {
+    public long getMin() {
         return min;
     }
 
-    public int getMax() {
+    public long getMax() {
         return max;
     }
 
-    public int getValue() {
+    public long getValue() {
         return value;
     }
 
@@ -4,18 +4,53 @@ package com.link_intersystems.io.progress;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+
+import static java.util.Objects.requireNonNull;
 
 /**
  * A class that extends FilterInputStream to provide progress reporting functionality while reading data.
+ * <p>
+ * By default the progress is reported after each read. Streams that are read in small chunks should
+ * be throttled using a {@link #setByteGranularity(long) byte granularity} and/or a
+ * {@link #setTimeGranularity(Duration) time granularity}. The progress is reported through
+ * {@link ProgressListener#progressChanged(Object, long, long, long)}, so that listeners that override that method
+ * receive the progress without any allocation.
  *
  * @author René Link {@literal <rene.link@link-intersystems.com>}
  */
 public class ProgressInputStream extends FilterInputStream {
-    private int read = 0;
-    private int size;
+
+    /**
+     * Whether a subclass overrides the deprecated {@link #fireProgressEvent(ProgressListener, ProgressEvent)}.
+     */
+    private static final ClassValue<Boolean> FIRE_PROGRESS_EVENT_OVERRIDDEN = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> current = type; current != ProgressInputStream.class; current = current.getSuperclass()) {
+                try {
+                    current.getDeclaredMethod("fireProgressEvent", ProgressListener.class, ProgressEvent.class);
+                    return true;
+                } catch (NoSuchMethodException e) {
+                    // not overridden by this class
+                }
+            }
+            return false;
+        }
+    };
+
+    private long read = 0;
+    private long size;
     private ProgressListener progressListener;
 
-    public ProgressInputStream(InputStream in, int size, ProgressListener progressListener) {
+    private long byteGranularity;
+    private long timeGranularityNanos;
+
+    private boolean reported;
+    private long lastReportedRead;
+    private long lastReportedNanos;
+
+    public ProgressInputStream(InputStream in, long size, ProgressListener progressListener) {
         super(in);
 
         if (size < 0) {
@@ -38,11 +73,45 @@ public class ProgressInputStream extends FilterInputStream {
         this.progressListener = ProgressListener.nullSafe(progressListener);
     }
 
+    /**
+     * Sets the minimum number of bytes that must be read since the last report before the progress is reported
+     * again. Defaults to 0. The progress is always reported when the size or the end of the stream is reached.
+     */
+    public void setByteGranularity(long byteGranularity) {
+        if (byteGranularity < 0) {
+            throw new IllegalArgumentException("byteGranularity must be 0 or greater");
+        }
+        this.byteGranularity = byteGranularity;
+    }
+
+    public long getByteGranularity() {
+        return byteGranularity;
+    }
+
+    /**
+     * Sets the minimum time that must elapse since the last report before the progress is reported again.
+     * Defaults to {@link Duration#ZERO}. If a byte granularity is set too, both must be reached.
+     * The progress is always reported when the size or the end of the stream is reached.
+     */
+    public void setTimeGranularity(Duration timeGranularity) {
+        if (requireNonNull(timeGranularity).isNegative()) {
+            throw new IllegalArgumentException("timeGranularity must not be negative");
+        }
+        this.timeGranularityNanos = timeGranularity.toNanos();
+    }
+
+    public Duration getTimeGranularity() {
+        return Duration.ofNanos(timeGranularityNanos);
+    }
+
     public int read() throws IOException {
         int c = in.read();
 
         if (c >= 0) {
-            fireProgressEvent(new ProgressEvent(this, 0, size, ++read));
+            read++;
+            progressChanged();
+        } else {
+            endOfStream();
         }
 
         return c;
@@ -52,7 +121,10 @@ public class ProgressInputStream extends FilterInputStream {
         int nr = in.read(b, off, len);
 
         if (nr > 0) {
-            fireProgressEvent(new ProgressEvent(this, 0, size, read += nr));
+            read += nr;
+            progressChanged();
+        } else if (nr < 0) {
+            endOfStream();
         }
 
         return nr;
@@ -62,8 +134,8 @@ public class ProgressInputStream extends FilterInputStream {
         long nr = in.skip(n);
 
         if (nr > 0L) {
-            read = (int) ((long) read + nr);
-            fireProgressEvent(new ProgressEvent(this, 0, size, read));
+            read += nr;
+            progressChanged();
         }
 
         return nr;
@@ -75,13 +147,58 @@ public class ProgressInputStream extends FilterInputStream {
 
     public synchronized void reset() throws IOException {
         in.reset();
-        fireProgressEvent(new ProgressEvent(this, 0, size, read = size - in.available()));
+        read = size - in.available();
+        fireProgressChanged(read);
+    }
+
+    private void progressChanged() {
+        boolean sizeReached = read >= size && lastReportedRead < size;
+
+        if (!sizeReached) {
+            if (read - lastReportedRead < byteGranularity) {
+                return;
+            }
+
+            if (reported && timeGranularityNanos > 0 && System.nanoTime() - lastReportedNanos < timeGranularityNanos) {
+                return;
+            }
+        }
+
+        fireProgressChanged(read);
     }
 
-    private void fireProgressEvent(ProgressEvent e) {
-        fireProgressEvent(progressListener, e);
+    private void endOfStream() {
+        if (read != lastReportedRead) {
+            fireProgressChanged(read);
+        }
+    }
+
+    private void fireProgressChanged(long value) {
+        reported = true;
+        lastReportedRead = value;
+        if (timeGranularityNanos > 0) {
+            lastReportedNanos = System.nanoTime();
+        }
+        fireProgressChanged(progressListener, value);
+    }
+
+    /**
+     * Reports the progress to the {@link ProgressListener}. If a subclass overrides the deprecated
+     * {@link #fireProgressEvent(ProgressListener, ProgressEvent)}, the progress is reported through it.
+     */
+    protected void fireProgressChanged(ProgressListener progressListener, long value) {
+        if (FIRE_PROGRESS_EVENT_OVERRIDDEN.get(getClass())) {
+            fireProgressEvent(progressListener, new ProgressEvent(this, 0, size, value));
+            return;
+        }
+        progressListener.progressChanged(this, 0, size, value);
     }
 
+    /**
+     * @deprecated override {@link #fireProgressChanged(ProgressListener, long)} instead, which does not need
+     * to create a {@link ProgressEvent}. Overrides of this method are still invoked.
+     */
+    @Deprecated
     protected void fireProgressEvent(ProgressListener progressListener, ProgressEvent e) {
         progressListener.progressChanged(e);
     }
@@ -25,7 +25,14 @@ import java.util.EventListener;
  * @author René Link {@literal <rene.link@link-intersystems.com>}
  */
 public interface ProgressListener extends EventListener {
-    ProgressListener NULL = pe -> {
+    ProgressListener NULL = new ProgressListener() {
+        @Override
+        public void progressChanged(ProgressEvent progressEvent) {
+        }
+
+        @Override
+        public void progressChanged(Object source, long min, long max, long value) {
+        }
     };
 
     /**
@@ -46,4 +53,17 @@ public interface ProgressListener extends EventListener {
      * @param progressEvent The progress event containing the min, max, and current value of the progress.
      */
     void progressChanged(ProgressEvent progressEvent);
+
+    /**
+     * Notifies the listener that the progress has changed without the need to create a {@link ProgressEvent}.
+     * Sources that report progress very often, like a {@link ProgressInputStream}, call this method.
+     * <p>
+     * The default implementation creates a {@link ProgressEvent} and passes it to
+     * {@link #progressChanged(ProgressEvent)}. Listeners that only need the values should override this method.
+     *
+     * @param source the object that reports the progress.
+     */
+    default void progressChanged(Object source, long min, long max, long value) {
+        progressChanged(new ProgressEvent(source, min, max, value));
+    }
 }
\ No newline at end of file
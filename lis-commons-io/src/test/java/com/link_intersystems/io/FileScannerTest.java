@@ -6,11 +6,18 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author René Link {@literal <rene.link@link-intersystems.com>}
@@ -119,5 +126,91 @@ class FileScannerTest {
         fileAssertions.assertNoneEndsWith("src/main/java/com/link_intersystems/jdbc/TableReferenceList.java");
     }
 
+    @Test
+    void stream() {
+        fileScanner.addIncludeFilePattern("**/main/java/**/*List.java");
+
+        List<File> paths;
+        try (Stream<Path> stream = fileScanner.stream(tmpPath)) {
+            paths = stream.map(Path::toFile).collect(Collectors.toList());
+        }
+
+        FileAssertions fileAssertions = new FileAssertions(paths);
+        fileAssertions.assertOneEndsWith("src/main/java/com/link_intersystems/jdbc/ColumnMetaDataList.java");
+        fileAssertions.assertOneEndsWith("src/main/java/com/link_intersystems/jdbc/ForeignKeyList.java");
+        fileAssertions.assertOneEndsWith("src/main/java/com/link_intersystems/jdbc/TableReferenceList.java");
+        fileAssertions.assertNoneEndsWith("src/main/java/com/link_intersystems/jdbc/ColumnDescription.java");
+    }
 
+    @Test
+    void streamIsLazy() {
+        List<Path> matchedPaths = Collections.synchronizedList(new ArrayList<>());
+        FileScanner recordingFileScanner = new FileScanner() {
+            @Override
+            protected FileMatcher createFileMatcher(Path basepath, List<PathMatcher> includeFilePathMatchers, List<PathMatcher> excludeFilePathMatchers, List<PathMatcher> includeDirPathMatchers, List<PathMatcher> excludeDirPathMatchers) {
+                return new FileMatcher(basepath, includeFilePathMatchers, excludeFilePathMatchers, includeDirPathMatchers, excludeDirPathMatchers) {
+                    @Override
+                    public boolean isDirMatch(Path path) {
+                        matchedPaths.add(path);
+                        return super.isDirMatch(path);
+                    }
+                };
+            }
+        };
+        recordingFileScanner.addIncludeDirectoryPatterns("**");
+
+        Path firstMatch = recordingFileScanner.stream(tmpPath).findFirst().orElse(null);
+
+        assertNotNull(firstMatch);
+        assertFalse(matchedPaths.isEmpty());
+        for (Path matchedPath : matchedPaths) {
+            assertEquals(tmpPath, matchedPath.getParent(), "Only the base directory should be listed");
+        }
+    }
+
+    @Test
+    void scanUnlistableSubDir() throws IOException {
+        Path vanishingDir = Files.createDirectory(tmpPath.resolve("vanishing"));
+        FileScanner deletingFileScanner = new FileScanner() {
+            @Override
+            protected FileMatcher createFileMatcher(Path basepath, List<PathMatcher> includeFilePathMatchers, List<PathMatcher> excludeFilePathMatchers, List<PathMatcher> includeDirPathMatchers, List<PathMatcher> excludeDirPathMatchers) {
+                return new FileMatcher(basepath, includeFilePathMatchers, excludeFilePathMatchers, includeDirPathMatchers, excludeDirPathMatchers) {
+                    @Override
+                    public boolean processDirectory(Path path) {
+                        if (path.equals(vanishingDir)) {
+                            try {
+                                Files.delete(path);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        }
+                        return super.processDirectory(path);
+                    }
+                };
+            }
+        };
+        deletingFileScanner.addIncludeFilePattern("**/*.java");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> deletingFileScanner.scan(tmpPath));
+        assertTrue(e.getMessage().contains(vanishingDir.toString()), e.getMessage());
+    }
+
+    @Test
+    void parallelStream() {
+        fileScanner.addIncludeFilePattern("**/*.java");
+        fileScanner.addIncludeDirectoryPatterns("**");
+
+        List<Path> sequential = fileScanner.stream(tmpPath).sorted().collect(Collectors.toList());
+        List<Path> parallel = fileScanner.parallelStream(tmpPath).sorted().collect(Collectors.toList());
+
+        assertFalse(sequential.isEmpty());
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    void streamNoDir() {
+        Path nonExistentDir = getNonExistentDir().toPath();
+
+        assertThrows(IllegalArgumentException.class, () -> fileScanner.stream(nonExistentDir));
+    }
 }
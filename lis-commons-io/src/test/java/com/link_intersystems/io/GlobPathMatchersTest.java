@@ -0,0 +1,44 @@
+package com.link_intersystems.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+class GlobPathMatchersTest {
+
+    private static final String[] GLOBS = {
+            "**", "*", "*.java", "**/*.java", "**/pom.xml", "pom.xml", "src/**", "src/main/**",
+            "src/main/Foo.java", "*List.java", "**/*List.java", "glob:**/jdbc", "**/main/java/**/*List.java",
+            "**/*", "/**", "**/", "src/main/"
+    };
+
+    private static final String[] PATHS = {
+            "", "pom.xml", "Foo.java", "src", "src/main", "src/main/Foo.java", "src/main/FooList.java",
+            "module/pom.xml", "module/src/main/java/jdbc", "src/main/java/com/FooList.java", "/pom.xml", "/src/main",
+            "/", "Foo\n.java", "src/ma\nin/Foo.java", "src/main/Foo\n.java", "src/main/Foo.java\r"
+    };
+
+    @Test
+    void matchesSameAsFileSystemGlob() {
+        FileSystem fs = FileSystems.getDefault();
+
+        for (String glob : GLOBS) {
+            PathMatcher pathMatcher = GlobPathMatchers.create(fs, glob);
+            PathMatcher expectedPathMatcher = fs.getPathMatcher(glob.startsWith("glob:") ? glob : "glob:" + glob);
+
+            for (String pathName : PATHS) {
+                Path path = Paths.get(pathName);
+                assertEquals(expectedPathMatcher.matches(path), pathMatcher.matches(path), glob + " matches " + path);
+            }
+        }
+    }
+}
@@ -5,7 +5,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.*;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author René Link {@literal <rene.link@link-intersystems.com>}
@@ -38,4 +46,58 @@ class UnzipTest {
     void unzip() throws IOException {
         Unzip.unzip(zipFilePath, tmpDir.resolve("unzipped"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void unzipParallel() throws IOException {
+        Path sequentialDir = tmpDir.resolve("sequential");
+        Path parallelDir = tmpDir.resolve("parallel");
+
+        Unzip.unzip(zipFilePath, sequentialDir);
+        Unzip.unzip(zipFilePath, parallelDir, 4);
+
+        List<Path> sequentialFiles = listFiles(sequentialDir);
+        List<Path> parallelFiles = listFiles(parallelDir);
+
+        assertFalse(sequentialFiles.isEmpty());
+        assertEquals(sequentialFiles, parallelFiles);
+
+        for (Path file : sequentialFiles) {
+            Path sequentialFile = sequentialDir.resolve(file);
+            if (Files.isRegularFile(sequentialFile)) {
+                assertArrayEquals(Files.readAllBytes(sequentialFile), Files.readAllBytes(parallelDir.resolve(file)));
+            }
+        }
+    }
+
+    private List<Path> listFiles(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.map(dir::relativize).sorted().collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    void unzipParallelZipSlip() throws IOException {
+        Path zipSlipFile = tmpDir.resolve("zipslip.zip");
+        try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(zipSlipFile))) {
+            zos.putNextEntry(new ZipEntry("../evil.txt"));
+            zos.write("evil".getBytes());
+            zos.closeEntry();
+        }
+
+        Path target = tmpDir.resolve("unzipped");
+        assertThrows(IOException.class, () -> Unzip.unzip(zipSlipFile, target, 2));
+        assertFalse(Files.exists(tmpDir.resolve("evil.txt")));
+    }
+
+    @Test
+    void unzipParallelInterrupted() {
+        Path target = tmpDir.resolve("unzipped");
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(InterruptedIOException.class, () -> Unzip.unzip(zipFilePath, target, 4));
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+    }
+}
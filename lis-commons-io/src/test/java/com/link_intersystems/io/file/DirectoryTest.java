@@ -8,7 +8,15 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -83,4 +91,122 @@ class DirectoryTest {
         assertEquals(2, files.size());
 
     }
-}
\ No newline at end of file
+
+    private void createTree(File tempDir) throws IOException {
+        Directory directory = new Directory(tempDir);
+        directory.file("README.md").create();
+        directory.file("src/main/java/Main.java").create();
+        directory.file("src/main/java/com/Util.java").create();
+        directory.file("src/test/java/MainTest.java").create();
+        directory.file("docs/index.md").create();
+    }
+
+    @Test
+    void walkFiles(@TempDir File tempDir) throws IOException {
+        createTree(tempDir);
+        Directory directory = new Directory(tempDir);
+
+        try (Stream<RegularFile> files = directory.walkFiles()) {
+            Set<Path> paths = files.map(RegularFile::getPath).map(tempDir.toPath()::relativize).collect(Collectors.toSet());
+
+            assertEquals(5, paths.size());
+            assertTrue(paths.contains(Paths.get("src/main/java/com/Util.java")));
+        }
+    }
+
+    @Test
+    void walkFilesMaxDepth(@TempDir File tempDir) throws IOException {
+        createTree(tempDir);
+        Directory directory = new Directory(tempDir);
+
+        try (Stream<RegularFile> files = directory.walkFiles(1)) {
+            assertEquals(Collections.singletonList(directory.file("README.md")), files.collect(Collectors.toList()));
+        }
+
+        try (Stream<RegularFile> files = directory.walkFiles(2)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void forEachFilesParallel(@TempDir File tempDir) throws IOException {
+        createTree(tempDir);
+        Directory directory = new Directory(tempDir);
+
+        Set<RegularFile> files = ConcurrentHashMap.newKeySet();
+        directory.forEachFiles(files::add, path -> path.toString().endsWith(".java"), Integer.MAX_VALUE, 4);
+
+        assertEquals(3, files.size());
+        assertTrue(files.contains(directory.file("src/main/java/com/Util.java")));
+    }
+
+    @Test
+    void forEachFilesParallelMaxDepth(@TempDir File tempDir) throws IOException {
+        createTree(tempDir);
+        Directory directory = new Directory(tempDir);
+
+        Set<RegularFile> files = ConcurrentHashMap.newKeySet();
+        directory.forEachFiles(files::add, path -> true, 4, 4);
+
+        assertEquals(4, files.size());
+        assertFalse(files.contains(directory.file("src/main/java/com/Util.java")));
+    }
+
+    @Test
+    void forEachFilesParallelConsumerException(@TempDir File tempDir) throws IOException {
+        createTree(tempDir);
+        Directory directory = new Directory(tempDir);
+
+        IOException ioException = assertThrows(IOException.class, () -> directory.forEachFiles(file -> {
+            throw new IOException(file.getPath().getFileName().toString());
+        }, path -> true, Integer.MAX_VALUE, 2));
+
+        assertNotNull(ioException.getMessage());
+    }
+
+    private void createSymbolicLinks(File tempDir) throws IOException {
+        Path root = tempDir.toPath();
+        Files.createSymbolicLink(root.resolve("src/main/java/Link.java"), root.resolve("src/main/java/Main.java"));
+        // a link cycle. It must not be followed.
+        Files.createSymbolicLink(root.resolve("src/main/java/com/root"), root);
+    }
+
+    @Test
+    void symbolicLinks(@TempDir File tempDir) throws IOException {
+        createTree(tempDir);
+        createSymbolicLinks(tempDir);
+        Directory directory = new Directory(tempDir);
+        Directory javaDirectory = new Directory(tempDir.toPath().resolve("src/main/java"));
+
+        Set<RegularFile> listedFiles = new HashSet<>(javaDirectory.listFiles());
+
+        try (Stream<RegularFile> files = javaDirectory.walkFiles(1)) {
+            assertEquals(listedFiles, files.collect(Collectors.toSet()));
+        }
+
+        Set<RegularFile> parallelFiles = ConcurrentHashMap.newKeySet();
+        javaDirectory.forEachFiles(parallelFiles::add, path -> true, 1, 2);
+        assertEquals(listedFiles, parallelFiles);
+
+        try (Stream<RegularFile> files = directory.walkFiles()) {
+            Set<RegularFile> walkedFiles = files.collect(Collectors.toSet());
+
+            assertEquals(6, walkedFiles.size());
+            assertTrue(walkedFiles.contains(directory.file("src/main/java/Link.java")));
+        }
+
+        parallelFiles.clear();
+        directory.forEachFiles(parallelFiles::add, path -> true, Integer.MAX_VALUE, 2);
+
+        assertEquals(6, parallelFiles.size());
+        assertTrue(parallelFiles.contains(directory.file("src/main/java/Link.java")));
+    }
+
+    @Test
+    void forEachFilesParallelIllegalArguments(@TempDir File tempDir) {
+        Directory directory = new Directory(tempDir);
+
+        assertThrows(IllegalArgumentException.class, () -> directory.forEachFiles(IOConsumer.noop(), path -> true, -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> directory.forEachFiles(IOConsumer.noop(), path -> true, 1, 0));
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import static java.nio.charset.StandardCharsets.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -166,5 +167,74 @@ class RegularFileTest {
         );
     }
 
+    @Test
+    void writeWithSmallBufferSize(@TempDir File tempDir) throws IOException {
+        RegularFile regularFile = createRegularFile(tempDir, "greetings.txt");
+        regularFile.setBufferSize(2);
+
+        regularFile.write(appender -> {
+            appender.append("Hello\nRené!");
+        });
+
+        org.assertj.core.api.Assertions.assertThat(regularFile.getPath()).content(UTF_8).isEqualTo(
+                "Hello\nRené!"
+        );
+    }
+
+    @Test
+    void illegalBufferSize(@TempDir File tempDir) {
+        RegularFile regularFile = createRegularFile(tempDir, "greetings.txt");
+
+        assertThrows(IllegalArgumentException.class, () -> regularFile.setBufferSize(0));
+    }
 
-}
\ No newline at end of file
+    @Test
+    void writeByteBuffers(@TempDir File tempDir) throws IOException {
+        RegularFile regularFile = createRegularFile(tempDir, "someDir/greetings.txt");
+
+        ByteBuffer hello = ByteBuffer.wrap("Hello\n".getBytes(UTF_8));
+        ByteBuffer rene = ByteBuffer.wrap("René!".getBytes(UTF_8));
+        regularFile.write(hello, rene);
+
+        org.assertj.core.api.Assertions.assertThat(regularFile.getPath()).content(UTF_8).isEqualTo(
+                "Hello\nRené!"
+        );
+        org.assertj.core.api.Assertions.assertThat(hello.hasRemaining()).isFalse();
+        org.assertj.core.api.Assertions.assertThat(rene.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void appendByteBuffers(@TempDir File tempDir) throws IOException {
+        appendToNoneExistingFile(tempDir);
+
+        RegularFile regularFile = createRegularFile(tempDir, "greetings.txt");
+
+        regularFile.append(ByteBuffer.wrap("\nHow are you?".getBytes(UTF_8)));
+
+        org.assertj.core.api.Assertions.assertThat(regularFile.getPath()).content(UTF_8).isEqualTo(
+                "Hello\nRené!\nHow are you?"
+        );
+    }
+
+    @Test
+    void writeForced(@TempDir File tempDir) throws IOException {
+        RegularFile regularFile = createRegularFile(tempDir, "greetings.txt");
+        regularFile.setForcePolicy(RegularFile.ForcePolicy.CONTENT_AND_METADATA);
+
+        regularFile.write(appender -> {
+            appender.append("Hello\nRené!");
+        });
+        regularFile.append(ByteBuffer.wrap("\nHow are you?".getBytes(UTF_8)));
+
+        org.assertj.core.api.Assertions.assertThat(regularFile.getPath()).content(UTF_8).isEqualTo(
+                "Hello\nRené!\nHow are you?"
+        );
+    }
+
+    @Test
+    void writeByteBuffersToADirectory(@TempDir File tempDir) {
+        RegularFile regularFile = new RegularFile(tempDir);
+
+        assertThrows(IOException.class, () -> regularFile.write(ByteBuffer.allocate(1)));
+    }
+}
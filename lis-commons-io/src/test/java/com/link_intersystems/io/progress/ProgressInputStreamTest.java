@@ -9,6 +9,9 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -36,7 +39,7 @@ class ProgressInputStreamTest {
         int read = inputStream.read();
         assertEquals('H', (char) read);
 
-        verify(progressListener).progressChanged(new ProgressEvent(inputStream, 0, 11, 1));
+        verify(progressListener).progressChanged(inputStream, 0, 11, 1);
     }
 
     @Test
@@ -46,20 +49,20 @@ class ProgressInputStreamTest {
 
         assertEquals(5, read);
         assertArrayEquals("Hello".getBytes(StandardCharsets.UTF_8), arr);
-        verify(progressListener).progressChanged(new ProgressEvent(inputStream, 0, 11, 5));
+        verify(progressListener).progressChanged(inputStream, 0, 11, 5);
     }
 
     @Test
     void skip() throws IOException {
         inputStream.skip(6);
-        verify(progressListener).progressChanged(new ProgressEvent(inputStream, 0, 11, 6));
+        verify(progressListener).progressChanged(inputStream, 0, 11, 6);
 
         byte[] arr = new byte[5];
         int read = inputStream.read(arr);
 
         assertEquals(5, read);
         assertArrayEquals("World".getBytes(StandardCharsets.UTF_8), arr);
-        verify(progressListener).progressChanged(new ProgressEvent(inputStream, 0, 11, 11));
+        verify(progressListener).progressChanged(inputStream, 0, 11, 11);
     }
 
     @Test
@@ -77,15 +80,15 @@ class ProgressInputStreamTest {
         int read = inputStream.read(arr);
         assertEquals(5, read);
         assertArrayEquals("Hello".getBytes(StandardCharsets.UTF_8), arr);
-        verify(progressListener).progressChanged(new ProgressEvent(inputStream, 0, 11, 5));
+        verify(progressListener).progressChanged(inputStream, 0, 11, 5);
 
         inputStream.reset();
-        verify(progressListener).progressChanged(new ProgressEvent(inputStream, 0, 11, 0));
+        verify(progressListener).progressChanged(inputStream, 0, 11, 0);
 
         read = inputStream.read(arr);
         assertEquals(5, read);
         assertArrayEquals("Hello".getBytes(StandardCharsets.UTF_8), arr);
-        verify(progressListener, times(2)).progressChanged(new ProgressEvent(inputStream, 0, 11, 5));
+        verify(progressListener, times(2)).progressChanged(inputStream, 0, 11, 5);
     }
 
     @Test
@@ -96,7 +99,7 @@ class ProgressInputStreamTest {
         int read = inputStream.read(arr);
         assertEquals(5, read);
         assertArrayEquals("Hello".getBytes(StandardCharsets.UTF_8), arr);
-        verify(progressListener).progressChanged(new ProgressEvent(inputStream, 0, 5, 5));
+        verify(progressListener).progressChanged(inputStream, 0, 5, 5);
     }
 
     @Test
@@ -109,4 +112,83 @@ class ProgressInputStreamTest {
         inputStream = new ProgressInputStream(rawInput, null);
         inputStream.read();
     }
-}
\ No newline at end of file
+
+    @Test
+    void byteGranularity() throws IOException {
+        inputStream.setByteGranularity(4);
+
+        byte[] arr = new byte[3];
+        inputStream.read(arr);
+        inputStream.read(arr);
+        inputStream.read(arr);
+        inputStream.read(arr);
+
+        verify(progressListener).progressChanged(inputStream, 0, 11, 6);
+        verify(progressListener).progressChanged(inputStream, 0, 11, 11);
+    }
+
+    @Test
+    void endOfStreamReported() throws IOException {
+        inputStream = new ProgressInputStream(rawInput, 20, progressListener);
+        inputStream.setByteGranularity(100);
+
+        byte[] arr = new byte[20];
+        assertEquals(11, inputStream.read(arr));
+        assertEquals(-1, inputStream.read(arr));
+
+        verify(progressListener).progressChanged(inputStream, 0, 20, 11);
+    }
+
+    @Test
+    void progressEventListener() throws IOException {
+        List<ProgressEvent> progressEvents = new ArrayList<>();
+        long size = Integer.MAX_VALUE * 2L;
+        inputStream = new ProgressInputStream(rawInput, size, progressEvents::add);
+
+        inputStream.read(new byte[5]);
+
+        assertEquals(1, progressEvents.size());
+        assertEquals(new ProgressEvent(inputStream, 0, size, 5), progressEvents.get(0));
+    }
+
+    @Test
+    void timeGranularity() throws IOException {
+        inputStream.setTimeGranularity(Duration.ofHours(1));
+        assertEquals(Duration.ofHours(1), inputStream.getTimeGranularity());
+
+        inputStream.mark(11);
+        inputStream.read();
+        inputStream.read();
+        inputStream.read();
+        verify(progressListener).progressChanged(inputStream, 0, 11, 1);
+
+        inputStream.reset();
+        verify(progressListener).progressChanged(inputStream, 0, 11, 0);
+
+        inputStream.read();
+        inputStream.read(new byte[11]);
+        verify(progressListener).progressChanged(inputStream, 0, 11, 11);
+    }
+
+    @Test
+    void negativeTimeGranularity() {
+        assertThrows(IllegalArgumentException.class, () -> inputStream.setTimeGranularity(Duration.ofMillis(-1)));
+    }
+
+    @Test
+    void deprecatedFireProgressEventOverride() throws IOException {
+        List<ProgressEvent> progressEvents = new ArrayList<>();
+        inputStream = new ProgressInputStream(rawInput, progressListener) {
+            @SuppressWarnings("deprecation")
+            @Override
+            protected void fireProgressEvent(ProgressListener progressListener, ProgressEvent e) {
+                progressEvents.add(e);
+            }
+        };
+
+        inputStream.read(new byte[5]);
+
+        assertEquals(1, progressEvents.size());
+        assertEquals(new ProgressEvent(inputStream, 0, 11, 5), progressEvents.get(0));
+    }
+}
@@ -1,5 +1,6 @@
 package com.link_intersystems.jdbc;
 
+import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
@@ -58,6 +59,54 @@ public class ColumnMetaData implements ColumnDescription {
         isGeneratedColumn = columnResultSet.getString("IS_GENERATEDCOLUMN");
     }
 
+    ColumnMetaData(SnapshotReader reader) throws IOException {
+        catalogName = reader.readString();
+        schemaName = reader.readString();
+        tableName = reader.readString();
+        columnName = reader.readString();
+        dataType = reader.readInt();
+        typeName = reader.readString();
+        columnSize = reader.readInt();
+        decimalDigits = reader.readInt();
+        numPrecRadix = reader.readInt();
+        nullable = reader.readInt();
+        remarks = reader.readString();
+        columnDefaultValue = reader.readString();
+        charOctetLength = reader.readInt();
+        ordinalPosition = reader.readInt();
+        isNullable = reader.readString();
+        scopeCatalogName = reader.readString();
+        scopeSchemaName = reader.readString();
+        scopeTableName = reader.readString();
+        sourceDataType = reader.readShort();
+        isAutoincrement = reader.readString();
+        isGeneratedColumn = reader.readString();
+    }
+
+    void writeTo(SnapshotWriter writer) throws IOException {
+        writer.writeString(catalogName);
+        writer.writeString(schemaName);
+        writer.writeString(tableName);
+        writer.writeString(columnName);
+        writer.writeInt(dataType);
+        writer.writeString(typeName);
+        writer.writeInt(columnSize);
+        writer.writeInt(decimalDigits);
+        writer.writeInt(numPrecRadix);
+        writer.writeInt(nullable);
+        writer.writeString(remarks);
+        writer.writeString(columnDefaultValue);
+        writer.writeInt(charOctetLength);
+        writer.writeInt(ordinalPosition);
+        writer.writeString(isNullable);
+        writer.writeString(scopeCatalogName);
+        writer.writeString(scopeSchemaName);
+        writer.writeString(scopeTableName);
+        writer.writeShort(sourceDataType);
+        writer.writeString(isAutoincrement);
+        writer.writeString(isGeneratedColumn);
+    }
+
     public String getCatalogName() {
         return catalogName;
     }
@@ -4,6 +4,7 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -31,23 +32,41 @@ import static java.util.stream.Collectors.toList;
  * assertEquals("fk_film_actor_actor", foreignKey.getName());
  * </pre>
  * <img src="doc-files/sakila.png" alt="Sakila Database Diagram"/>
+ * <p>
+ * The meta-data is loaded lazily per table and cached in a thread-safe cache, so that a {@link ConnectionMetaData}
+ * can be shared between threads. Since a {@link Connection} is not thread-safe, the catalog queries are
+ * executed one after the other. When the meta-data of many tables is needed, it can be loaded up front using
+ * {@link #prefetch()}. This needs considerably fewer catalog queries than loading the meta-data table by table.
+ * If the schema might change at runtime a {@link #setTimeToLive(Duration) time to live} can be set after which
+ * cached meta-data is reloaded. The meta-data can also be {@link #createSnapshot(String) saved} and
+ * {@link #restore(ConnectionMetaDataSnapshot) restored} using a {@link ConnectionMetaDataSnapshot}.
  *
  * @author René Link {@literal <rene.link@link-intersystems.com>}
  */
 public class ConnectionMetaData implements TableReferenceMetaData {
 
-    private TableMetaDataList tableMetaDataList;
-    private Map<String, ColumnMetaDataList> columnMetaDataListByTableName = new HashMap<>();
-    private Map<String, PrimaryKey> primaryKeysByTableName = new HashMap<>();
-    private Map<String, ForeignKeyList> exportedForeignKeysByTableName = new HashMap<>();
-    private Map<String, ForeignKeyList> importedForeignKeysByTableName = new HashMap<>();
-    private Map<String, TableReferenceList> outgoingReferences = new HashMap<>();
-    private Map<String, TableReferenceList> incommingReferences = new HashMap<>();
+    private static final String ALL_TABLES = "%";
+
+    private final MetaDataCache<TableMetaDataList> tableMetaDataList = new MetaDataCache<>(this::getTimeToLiveNanos);
+    private final MetaDataCache<ColumnMetaDataList> columnMetaDataListByTableName = new MetaDataCache<>(this::getTimeToLiveNanos);
+    private final MetaDataCache<PrimaryKey> primaryKeysByTableName = new MetaDataCache<>(this::getTimeToLiveNanos);
+    private final MetaDataCache<ForeignKeyList> exportedForeignKeysByTableName = new MetaDataCache<>(this::getTimeToLiveNanos);
+    private final MetaDataCache<ForeignKeyList> importedForeignKeysByTableName = new MetaDataCache<>(this::getTimeToLiveNanos);
+    private final MetaDataCache<TableReferenceList> outgoingReferences = new MetaDataCache<>(this::getTimeToLiveNanos);
+    private final MetaDataCache<TableReferenceList> incommingReferences = new MetaDataCache<>(this::getTimeToLiveNanos);
+
+    /**
+     * Guards the catalog queries, since neither the connection nor its {@link DatabaseMetaData} are thread-safe.
+     * It is never held while waiting for a cached value, so that threads that load different values can not
+     * deadlock.
+     */
+    private final Object metaDataLock = new Object();
 
     private Connection connection;
     private String[] tableTypes;
 
-    private JdbcContext context;
+    private volatile JdbcContext context;
+    private volatile long timeToLiveNanos;
 
     public ConnectionMetaData(Connection connection) {
         this(connection, new String[]{"TABLE"});
@@ -67,6 +86,133 @@ public class ConnectionMetaData implements TableReferenceMetaData {
         this.tableTypes = requireNonNull(tableTypes);
     }
 
+    /**
+     * Sets the time after which cached meta-data expires and is reloaded on the next access.
+     * A <code>null</code> or zero time to live, which is the default, means that the meta-data
+     * is cached until {@link #invalidate()} is called.
+     */
+    public void setTimeToLive(Duration timeToLive) {
+        if (timeToLive != null && timeToLive.isNegative()) {
+            throw new IllegalArgumentException("timeToLive must not be negative");
+        }
+        this.timeToLiveNanos = timeToLive == null ? 0 : timeToLive.toNanos();
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLiveNanos == 0 ? null : Duration.ofNanos(timeToLiveNanos);
+    }
+
+    private long getTimeToLiveNanos() {
+        return timeToLiveNanos;
+    }
+
+    /**
+     * Removes all cached meta-data so that it is reloaded on the next access.
+     */
+    public void invalidate() {
+        tableMetaDataList.clear();
+        columnMetaDataListByTableName.clear();
+        primaryKeysByTableName.clear();
+        exportedForeignKeysByTableName.clear();
+        importedForeignKeysByTableName.clear();
+        outgoingReferences.clear();
+        incommingReferences.clear();
+    }
+
+    /**
+     * Loads the meta-data of all tables at once. The tables and their columns are each loaded
+     * with one catalog-wide query. Since the jdbc api does not support table name patterns for keys,
+     * the primary keys and the imported keys are still loaded per table. The exported keys and
+     * the table references are derived from the imported keys and thus need no queries at all.
+     * <p>
+     * Note that exported keys are therefore only prefetched for foreign keys of tables that are
+     * in the scope of this {@link ConnectionMetaData}. Other tables' meta-data is still loaded lazily.
+     */
+    public void prefetch() throws SQLException {
+        restore(createSnapshot(null));
+    }
+
+    /**
+     * Loads the meta-data of all tables like {@link #prefetch()} does, but returns it as a
+     * {@link ConnectionMetaDataSnapshot} instead of caching it.
+     *
+     * @param schemaVersion an optional version of the schema the snapshot is created from. It can be used to
+     *                      decide if a stored snapshot is still valid.
+     */
+    public ConnectionMetaDataSnapshot createSnapshot(String schemaVersion) throws SQLException {
+        synchronized (metaDataLock) {
+            return loadSnapshot(schemaVersion);
+        }
+    }
+
+    private ConnectionMetaDataSnapshot loadSnapshot(String schemaVersion) throws SQLException {
+        TableMetaDataList tables = loadTableMetaDataList(ALL_TABLES);
+
+        ScopedDatabaseMetaData metaData = getScopedDatabaseMetaData();
+
+        List<ColumnMetaData> allColumns = COLUMN_META_DATA_MAPPER.map(metaData.getColumns(ALL_TABLES));
+        Map<String, List<ColumnMetaData>> columnsByTableName = allColumns.stream()
+                .collect(Collectors.groupingBy(ColumnMetaData::getTableName, LinkedHashMap::new, toList()));
+
+        Map<String, ColumnMetaDataList> columnMetaDataListByTableName = new LinkedHashMap<>();
+        Map<String, List<PrimaryKeyColumn>> primaryKeyColumnsByTableName = new LinkedHashMap<>();
+        Map<String, List<ForeignKeyEntry>> importedKeyEntriesByTableName = new LinkedHashMap<>();
+
+        for (TableMetaData table : tables) {
+            String tableName = table.getTableName();
+
+            List<ColumnMetaData> columns = columnsByTableName.getOrDefault(tableName, Collections.emptyList());
+            ColumnMetaDataList columnMetaDataList = new ColumnMetaDataList(columns);
+            columnMetaDataListByTableName.put(tableName, columnMetaDataList);
+
+            List<PrimaryKeyColumn> primaryKeyColumns = PRIMARY_KEY_MAPPER.map(metaData.getPrimaryKeys(tableName));
+            primaryKeyColumnsByTableName.put(tableName, primaryKeyColumns);
+
+            List<ForeignKeyEntry> importedEntries = FOREIGN_KEY_MAPPER.map(metaData.getImportedKeys(tableName));
+            importedKeyEntriesByTableName.put(tableName, importedEntries);
+        }
+
+        return new ConnectionMetaDataSnapshot(schemaVersion, tables, columnMetaDataListByTableName,
+                primaryKeyColumnsByTableName, importedKeyEntriesByTableName);
+    }
+
+    /**
+     * Caches the meta-data of the given {@link ConnectionMetaDataSnapshot} so that it is served without
+     * any catalog queries. Meta-data that is not part of the snapshot is still loaded lazily.
+     */
+    public void restore(ConnectionMetaDataSnapshot snapshot) {
+        TableMetaDataList tables = snapshot.getTableMetaDataList();
+        tableMetaDataList.put(ALL_TABLES, tables);
+
+        Map<String, List<ForeignKeyEntry>> exportedEntriesByTableName = new LinkedHashMap<>();
+
+        for (TableMetaData table : tables) {
+            String tableName = table.getTableName();
+
+            ColumnMetaDataList columnMetaDataList = snapshot.getColumnMetaDataList(tableName);
+            columnMetaDataListByTableName.put(tableName, columnMetaDataList);
+            List<PrimaryKeyColumn> primaryKeyColumns = new ArrayList<>(snapshot.getPrimaryKeyColumns(tableName));
+            primaryKeysByTableName.put(tableName, createPrimaryKey(columnMetaDataList, primaryKeyColumns));
+
+            List<ForeignKeyEntry> importedEntries = snapshot.getImportedKeyEntries(tableName);
+            ForeignKeyList importedKeys = new ForeignKeyList(mapToForeignKeys(importedEntries));
+            importedForeignKeysByTableName.put(tableName, importedKeys);
+            outgoingReferences.put(tableName, toTableReferenceList(importedKeys));
+
+            for (ForeignKeyEntry importedEntry : importedEntries) {
+                exportedEntriesByTableName.computeIfAbsent(importedEntry.getPkTableName(), k -> new ArrayList<>()).add(importedEntry);
+            }
+        }
+
+        for (TableMetaData table : tables) {
+            String tableName = table.getTableName();
+            List<ForeignKeyEntry> exportedEntries = exportedEntriesByTableName.getOrDefault(tableName, Collections.emptyList());
+            ForeignKeyList exportedKeys = new ForeignKeyList(mapToForeignKeys(exportedEntries));
+            exportedForeignKeysByTableName.put(tableName, exportedKeys);
+            incommingReferences.put(tableName, toTableReferenceList(exportedKeys));
+        }
+    }
+
     /**
      * Convenience method for {@link #getTableMetaDataList()}.getByName(tableName).
      *
@@ -78,12 +224,15 @@ public class ConnectionMetaData implements TableReferenceMetaData {
     }
 
     public TableMetaDataList getTableMetaDataList() throws SQLException {
-        if (tableMetaDataList == null) {
+        return tableMetaDataList.get(ALL_TABLES, this::loadTableMetaDataList);
+    }
+
+    private TableMetaDataList loadTableMetaDataList(String tableNamePattern) throws SQLException {
+        synchronized (metaDataLock) {
             ScopedDatabaseMetaData metaData = getScopedDatabaseMetaData();
-            ResultSet tablesResultSet = metaData.getTables("%", tableTypes);
-            tableMetaDataList = new TableMetaDataList(tablesResultSet);
+            ResultSet tablesResultSet = metaData.getTables(tableNamePattern, tableTypes);
+            return new TableMetaDataList(tablesResultSet);
         }
-        return tableMetaDataList;
     }
 
     protected ScopedDatabaseMetaData getScopedDatabaseMetaData() throws SQLException {
@@ -93,6 +242,7 @@ public class ConnectionMetaData implements TableReferenceMetaData {
     }
 
     private JdbcContext getContext() throws SQLException {
+        JdbcContext context = this.context;
         if (context == null) {
             JdbcContext.Builder builder = new JdbcContext.Builder();
 
@@ -100,23 +250,26 @@ public class ConnectionMetaData implements TableReferenceMetaData {
             builder.setSchema(connection.getSchema());
 
             context = builder.build();
+            this.context = context;
         }
         return context;
     }
 
     public PrimaryKey getPrimaryKey(String tableName) throws SQLException {
-        if (!primaryKeysByTableName.containsKey(tableName)) {
-            ColumnMetaDataList columnMetaDataList = getColumnMetaDataList(tableName);
-            ScopedDatabaseMetaData metaData = getScopedDatabaseMetaData();
-
-            ResultSet resultSet = metaData.getPrimaryKeys(tableName);
-            List<PrimaryKeyColumn> primaryKeyColumns = PRIMARY_KEY_MAPPER.map(resultSet);
+        return primaryKeysByTableName.get(tableName, this::loadPrimaryKey);
+    }
 
-            PrimaryKey primaryKey = createPrimaryKey(columnMetaDataList, primaryKeyColumns);
+    private PrimaryKey loadPrimaryKey(String tableName) throws SQLException {
+        ColumnMetaDataList columnMetaDataList = getColumnMetaDataList(tableName);
 
-            primaryKeysByTableName.put(tableName, primaryKey);
+        List<PrimaryKeyColumn> primaryKeyColumns;
+        synchronized (metaDataLock) {
+            ScopedDatabaseMetaData metaData = getScopedDatabaseMetaData();
+            ResultSet resultSet = metaData.getPrimaryKeys(tableName);
+            primaryKeyColumns = PRIMARY_KEY_MAPPER.map(resultSet);
         }
-        return primaryKeysByTableName.get(tableName);
+
+        return createPrimaryKey(columnMetaDataList, primaryKeyColumns);
     }
 
     protected PrimaryKey createPrimaryKey(ColumnMetaDataList columnMetaDataList, List<PrimaryKeyColumn> primaryKeyColumns) {
@@ -146,79 +299,70 @@ public class ConnectionMetaData implements TableReferenceMetaData {
     }
 
     public ColumnMetaDataList getColumnMetaDataList(String tableName) throws SQLException {
-        if (!columnMetaDataListByTableName.containsKey(tableName)) {
-            List<ColumnMetaData> columnMetaDatas = createColumnMetaData(tableName);
-            columnMetaDataListByTableName.put(tableName, new ColumnMetaDataList(columnMetaDatas));
-        }
-        return columnMetaDataListByTableName.get(tableName);
-
+        return columnMetaDataListByTableName.get(tableName, this::createColumnMetaData);
     }
 
-    private List<ColumnMetaData> createColumnMetaData(String tableName) throws SQLException {
-        ScopedDatabaseMetaData scopedDatabaseMetaData = getScopedDatabaseMetaData();
-        ResultSet columnsMetaDataResultSet = scopedDatabaseMetaData.getColumns(tableName);
+    private ColumnMetaDataList createColumnMetaData(String tableName) throws SQLException {
+        List<ColumnMetaData> columnMetaData;
+        synchronized (metaDataLock) {
+            ScopedDatabaseMetaData scopedDatabaseMetaData = getScopedDatabaseMetaData();
+            ResultSet columnsMetaDataResultSet = scopedDatabaseMetaData.getColumns(tableName);
+            columnMetaData = COLUMN_META_DATA_MAPPER.map(columnsMetaDataResultSet);
+        }
 
-        return COLUMN_META_DATA_MAPPER.map(columnsMetaDataResultSet);
+        return new ColumnMetaDataList(columnMetaData);
     }
 
 
     public ForeignKeyList getExportedKeys(String tableName) throws SQLException {
-        if (!exportedForeignKeysByTableName.containsKey(tableName)) {
-            ForeignKeyList foreignKeys = createForeignKeys(tableName);
-            exportedForeignKeysByTableName.put(tableName, foreignKeys);
-        }
-
-        return exportedForeignKeysByTableName.get(tableName);
+        return exportedForeignKeysByTableName.get(tableName, this::createForeignKeys);
     }
 
     private ForeignKeyList createForeignKeys(String tableName) throws SQLException {
-        ScopedDatabaseMetaData scopedDatabaseMetaData = getScopedDatabaseMetaData();
-        ResultSet resultSet = scopedDatabaseMetaData.getExportedKeys(tableName);
-        List<ForeignKeyEntry> jdbcForeignKeyEntries = FOREIGN_KEY_MAPPER.map(resultSet);
+        List<ForeignKeyEntry> jdbcForeignKeyEntries;
+        synchronized (metaDataLock) {
+            ScopedDatabaseMetaData scopedDatabaseMetaData = getScopedDatabaseMetaData();
+            ResultSet resultSet = scopedDatabaseMetaData.getExportedKeys(tableName);
+            jdbcForeignKeyEntries = FOREIGN_KEY_MAPPER.map(resultSet);
+        }
 
         return new ForeignKeyList(mapToForeignKeys(jdbcForeignKeyEntries));
     }
 
     private List<ForeignKey> mapToForeignKeys(List<ForeignKeyEntry> jdbcForeignKeyEntries) {
-        Map<String, List<ForeignKeyEntry>> foreignKeys = jdbcForeignKeyEntries.stream().collect(Collectors.groupingBy(ForeignKeyEntry::getFkName));
+        Map<List<String>, List<ForeignKeyEntry>> foreignKeys = jdbcForeignKeyEntries.stream()
+                .collect(Collectors.groupingBy(entry -> Arrays.asList(entry.getFkTableName(), entry.getFkName()), LinkedHashMap::new, toList()));
         return foreignKeys.values().stream().map(ForeignKey::new).collect(toList());
     }
 
 
     public ForeignKeyList getImportedKeys(String tableName) throws SQLException {
-        if (!importedForeignKeysByTableName.containsKey(tableName)) {
-            ForeignKeyList foreignKeys = createImportedKeys(tableName);
-            importedForeignKeysByTableName.put(tableName, foreignKeys);
-        }
-
-        return importedForeignKeysByTableName.get(tableName);
+        return importedForeignKeysByTableName.get(tableName, this::createImportedKeys);
     }
 
     private ForeignKeyList createImportedKeys(String tableName) throws SQLException {
-        ScopedDatabaseMetaData scopedDatabaseMetaData = getScopedDatabaseMetaData();
-        ResultSet resultSet = scopedDatabaseMetaData.getImportedKeys(tableName);
-        List<ForeignKeyEntry> jdbcForeignKeyEntries = FOREIGN_KEY_MAPPER.map(resultSet);
+        List<ForeignKeyEntry> jdbcForeignKeyEntries;
+        synchronized (metaDataLock) {
+            ScopedDatabaseMetaData scopedDatabaseMetaData = getScopedDatabaseMetaData();
+            ResultSet resultSet = scopedDatabaseMetaData.getImportedKeys(tableName);
+            jdbcForeignKeyEntries = FOREIGN_KEY_MAPPER.map(resultSet);
+        }
         return new ForeignKeyList(mapToForeignKeys(jdbcForeignKeyEntries));
     }
 
     @Override
     public TableReferenceList getOutgoingReferences(String tableName) throws SQLException {
-        if (!outgoingReferences.containsKey(tableName)) {
-            ForeignKeyList importedKeys = getImportedKeys(tableName);
-            List<TableReference> outgoing = importedKeys.stream().map(TableReference::of).collect(toList());
-            this.outgoingReferences.put(tableName, new TableReferenceList(outgoing));
-        }
-        return outgoingReferences.get(tableName);
+        return outgoingReferences.get(tableName, name -> toTableReferenceList(getImportedKeys(name)));
     }
 
     @Override
     public TableReferenceList getIncomingReferences(String tableName) throws SQLException {
-        if (!incommingReferences.containsKey(tableName)) {
-            ForeignKeyList exportedKeys = getExportedKeys(tableName);
-            List<TableReference> incoming = exportedKeys.stream().map(TableReference::of).collect(toList());
-            this.incommingReferences.put(tableName, new TableReferenceList(incoming));
-        }
-        return incommingReferences.get(tableName);
+        return incommingReferences.get(tableName, name -> toTableReferenceList(getExportedKeys(name)));
+    }
+
+    private TableReferenceList toTableReferenceList(ForeignKeyList foreignKeys) {
+        List<TableReference> tableReferences = foreignKeys.stream().map(TableReference::of).collect(toList());
+        return new TableReferenceList(tableReferences);
     }
 
 
@@ -0,0 +1,188 @@
+package com.link_intersystems.jdbc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link ConnectionMetaDataSnapshot} holds the table, column, primary key and foreign key meta-data of a
+ * {@link ConnectionMetaData} so that it can be stored in a compact binary format and restored later without any
+ * catalog queries, e.g. to speed up an application's startup.
+ *
+ * <pre>
+ * ConnectionMetaData metaData = new ConnectionMetaData(connection);
+ *
+ * ConnectionMetaDataSnapshot snapshot = metaData.createSnapshot("schema-v42");
+ * try (OutputStream out = Files.newOutputStream(snapshotFile)) {
+ *     snapshot.writeTo(out);
+ * }
+ *
+ * // on the next startup
+ * try (InputStream in = Files.newInputStream(snapshotFile)) {
+ *     ConnectionMetaDataSnapshot snapshot = ConnectionMetaDataSnapshot.readFrom(in);
+ *     if ("schema-v42".equals(snapshot.getSchemaVersion())) {
+ *         metaData.restore(snapshot);
+ *     }
+ * }
+ * </pre>
+ * <p>
+ * The snapshot holds the catalog's primary key columns instead of the {@link PrimaryKey}s, so that the
+ * primary keys are created by {@link ConnectionMetaData#createPrimaryKey(ColumnMetaDataList, List)} when the
+ * snapshot is restored. The exported keys and table references are not part of the snapshot, because they are
+ * derived from the imported keys when the snapshot is restored.
+ *
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ * @see ConnectionMetaData#createSnapshot(String)
+ * @see ConnectionMetaData#restore(ConnectionMetaDataSnapshot)
+ */
+public class ConnectionMetaDataSnapshot {
+
+    private static final int MAGIC = 0x4C49534D;
+    private static final int FORMAT_VERSION = 1;
+
+    private final String schemaVersion;
+    private final TableMetaDataList tableMetaDataList;
+    private final Map<String, ColumnMetaDataList> columnMetaDataListByTableName;
+    private final Map<String, List<PrimaryKeyColumn>> primaryKeyColumnsByTableName;
+    private final Map<String, List<ForeignKeyEntry>> importedKeyEntriesByTableName;
+
+    ConnectionMetaDataSnapshot(String schemaVersion,
+                               TableMetaDataList tableMetaDataList,
+                               Map<String, ColumnMetaDataList> columnMetaDataListByTableName,
+                               Map<String, List<PrimaryKeyColumn>> primaryKeyColumnsByTableName,
+                               Map<String, List<ForeignKeyEntry>> importedKeyEntriesByTableName) {
+        this.schemaVersion = schemaVersion;
+        this.tableMetaDataList = requireNonNull(tableMetaDataList);
+        this.columnMetaDataListByTableName = requireNonNull(columnMetaDataListByTableName);
+        this.primaryKeyColumnsByTableName = requireNonNull(primaryKeyColumnsByTableName);
+        this.importedKeyEntriesByTableName = requireNonNull(importedKeyEntriesByTableName);
+    }
+
+    /**
+     * @return the schema version this snapshot was created with or <code>null</code>.
+     */
+    public String getSchemaVersion() {
+        return schemaVersion;
+    }
+
+    public TableMetaDataList getTableMetaDataList() {
+        return tableMetaDataList;
+    }
+
+    ColumnMetaDataList getColumnMetaDataList(String tableName) {
+        return columnMetaDataListByTableName.getOrDefault(tableName, new ColumnMetaDataList(Collections.emptyList()));
+    }
+
+    List<PrimaryKeyColumn> getPrimaryKeyColumns(String tableName) {
+        return primaryKeyColumnsByTableName.getOrDefault(tableName, Collections.emptyList());
+    }
+
+    List<ForeignKeyEntry> getImportedKeyEntries(String tableName) {
+        return importedKeyEntriesByTableName.getOrDefault(tableName, Collections.emptyList());
+    }
+
+    /**
+     * Writes this snapshot to the given {@link OutputStream}. The stream is flushed, but not closed.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        SnapshotWriter writer = new SnapshotWriter(out);
+
+        writer.writeInt(MAGIC);
+        writer.writeInt(FORMAT_VERSION);
+        writer.writeString(schemaVersion);
+
+        writer.writeInt(tableMetaDataList.size());
+        for (TableMetaData tableMetaData : tableMetaDataList) {
+            tableMetaData.writeTo(writer);
+        }
+
+        for (TableMetaData tableMetaData : tableMetaDataList) {
+            String tableName = tableMetaData.getTableName();
+
+            ColumnMetaDataList columnMetaDataList = getColumnMetaDataList(tableName);
+            writer.writeInt(columnMetaDataList.size());
+            for (ColumnMetaData columnMetaData : columnMetaDataList) {
+                columnMetaData.writeTo(writer);
+            }
+
+            List<PrimaryKeyColumn> primaryKeyColumns = getPrimaryKeyColumns(tableName);
+            writer.writeInt(primaryKeyColumns.size());
+            for (PrimaryKeyColumn primaryKeyColumn : primaryKeyColumns) {
+                primaryKeyColumn.writeTo(writer);
+            }
+
+            List<ForeignKeyEntry> importedKeyEntries = getImportedKeyEntries(tableName);
+            writer.writeInt(importedKeyEntries.size());
+            for (ForeignKeyEntry importedKeyEntry : importedKeyEntries) {
+                importedKeyEntry.writeTo(writer);
+            }
+        }
+
+        writer.flush();
+    }
+
+    /**
+     * Reads a snapshot that was written by {@link #writeTo(OutputStream)}. The stream is not closed.
+     *
+     * @throws StreamCorruptedException if the stream does not contain a snapshot of a supported format.
+     */
+    public static ConnectionMetaDataSnapshot readFrom(InputStream in) throws IOException {
+        SnapshotReader reader = new SnapshotReader(in);
+
+        if (reader.readInt() != MAGIC) {
+            throw new StreamCorruptedException("Not a " + ConnectionMetaDataSnapshot.class.getSimpleName());
+        }
+        int formatVersion = reader.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new StreamCorruptedException("Unsupported snapshot format version " + formatVersion);
+        }
+        String schemaVersion = reader.readString();
+
+        int tableCount = reader.readInt();
+        List<TableMetaData> tables = new ArrayList<>(tableCount);
+        for (int i = 0; i < tableCount; i++) {
+            tables.add(new TableMetaData(reader));
+        }
+
+        Map<String, ColumnMetaDataList> columnMetaDataListByTableName = new LinkedHashMap<>();
+        Map<String, List<PrimaryKeyColumn>> primaryKeyColumnsByTableName = new LinkedHashMap<>();
+        Map<String, List<ForeignKeyEntry>> importedKeyEntriesByTableName = new LinkedHashMap<>();
+
+        for (TableMetaData table : tables) {
+            String tableName = table.getTableName();
+
+            int columnCount = reader.readInt();
+            List<ColumnMetaData> columns = new ArrayList<>(columnCount);
+            for (int i = 0; i < columnCount; i++) {
+                columns.add(new ColumnMetaData(reader));
+            }
+            ColumnMetaDataList columnMetaDataList = new ColumnMetaDataList(columns);
+            columnMetaDataListByTableName.put(tableName, columnMetaDataList);
+
+            int primaryKeyColumnCount = reader.readInt();
+            List<PrimaryKeyColumn> primaryKeyColumns = new ArrayList<>(primaryKeyColumnCount);
+            for (int i = 0; i < primaryKeyColumnCount; i++) {
+                primaryKeyColumns.add(new PrimaryKeyColumn(reader));
+            }
+            primaryKeyColumnsByTableName.put(tableName, primaryKeyColumns);
+
+            int importedKeyEntryCount = reader.readInt();
+            List<ForeignKeyEntry> importedKeyEntries = new ArrayList<>(importedKeyEntryCount);
+            for (int i = 0; i < importedKeyEntryCount; i++) {
+                importedKeyEntries.add(new ForeignKeyEntry(reader));
+            }
+            importedKeyEntriesByTableName.put(tableName, importedKeyEntries);
+        }
+
+        return new ConnectionMetaDataSnapshot(schemaVersion, new TableMetaDataList(tables), columnMetaDataListByTableName,
+                primaryKeyColumnsByTableName, importedKeyEntriesByTableName);
+    }
+}
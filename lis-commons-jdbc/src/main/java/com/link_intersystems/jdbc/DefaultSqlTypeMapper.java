@@ -6,6 +6,7 @@ import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.BiFunction;
@@ -13,12 +14,22 @@ import java.util.function.BiFunction;
 import static java.util.Objects.requireNonNull;
 
 /**
+ * Maps column values to java objects based on the column's {@link Types sql type}.
+ * <p>
+ * The {@link SqlTypeMapper}s of a {@link ResultSet}'s columns are resolved once per {@link ResultSet}
+ * and reused for each of its rows. Changes to the {@link #getSqlTypeMappers()} therefore only apply to
+ * {@link ResultSet}s that are mapped afterwards.
+ *
  * @author René Link {@literal <rene.link@link-intersystems.com>}
  */
 public class DefaultSqlTypeMapper implements SqlTypeMapper {
 
+    private static final int LOB_BUFFER_SIZE = 8192;
+
     private BiFunction<ResultSet, Integer, ZoneId> zoneIdSupplier = (rs, columnIndex) -> ZoneId.systemDefault();
     private Map<Integer, SqlTypeMapper> sqlTypeMappers;
+    private boolean lazyLobs;
+    private ResultSetPlanCache<SqlTypeMapper[]> columnMappersCache = new ResultSetPlanCache<>(this::getColumnMappers);
 
     public DefaultSqlTypeMapper() {
         Map<Integer, SqlTypeMapper> sqlTypeMappers = new HashMap<>();
@@ -34,6 +45,22 @@ public class DefaultSqlTypeMapper implements SqlTypeMapper {
         this.zoneIdSupplier = requireNonNull(zoneIdSupplier);
     }
 
+    /**
+     * If set to <code>true</code>, CLOB, NCLOB and BLOB columns are mapped to their {@link Clob}, {@link NClob} and
+     * {@link Blob} objects instead of being read into a {@link String} or byte array. The content of these objects
+     * can then be streamed lazily, e.g. using {@link Clob#getCharacterStream()} or {@link Blob#getBinaryStream()}.
+     * Note that they are usually only valid as long as the transaction they were created in is active.
+     * <p>
+     * The default is <code>false</code>.
+     */
+    public void setLazyLobs(boolean lazyLobs) {
+        this.lazyLobs = lazyLobs;
+    }
+
+    public boolean isLazyLobs() {
+        return lazyLobs;
+    }
+
     public Map<Integer, SqlTypeMapper> getSqlTypeMappers() {
         if (sqlTypeMappers == null) {
             Map<Integer, SqlTypeMapper> sqlTypeMappers = new HashMap<>();
@@ -51,8 +78,8 @@ public class DefaultSqlTypeMapper implements SqlTypeMapper {
         sqlTypeMappers.put(Types.NVARCHAR, ResultSet::getString);
         sqlTypeMappers.put(Types.LONGVARCHAR, ResultSet::getString);
         sqlTypeMappers.put(Types.LONGNVARCHAR, ResultSet::getString);
-        sqlTypeMappers.put(Types.CLOB, this::clobToString);
-        sqlTypeMappers.put(Types.NCLOB, this::clobToString);
+        sqlTypeMappers.put(Types.CLOB, this::clob);
+        sqlTypeMappers.put(Types.NCLOB, this::nclob);
 
         sqlTypeMappers.put(Types.TINYINT, ResultSet::getByte);
         sqlTypeMappers.put(Types.SMALLINT, ResultSet::getShort);
@@ -73,51 +100,116 @@ public class DefaultSqlTypeMapper implements SqlTypeMapper {
         sqlTypeMappers.put(Types.TIMESTAMP_WITH_TIMEZONE, this::offsetDateTime);
         sqlTypeMappers.put(Types.TIME_WITH_TIMEZONE, this::offsetTime);
 
-        sqlTypeMappers.put(Types.BLOB, this::blobToByteArray);
+        sqlTypeMappers.put(Types.BLOB, this::blob);
     }
 
     @Override
     public Object toObject(ResultSet resultSet, int columnIndex) throws SQLException {
-        ResultSetMetaData metaData = resultSet.getMetaData();
-        int columnType = metaData.getColumnType(columnIndex);
-        SqlTypeMapper sqlTypeMapper = sqlTypeMappers.getOrDefault(columnType, ResultSet::getObject);
+        SqlTypeMapper[] columnMappers = columnMappersCache.getPlan(resultSet);
+        if (columnIndex < 1 || columnIndex > columnMappers.length) {
+            throw new SQLException("Invalid column index: " + columnIndex);
+        }
+        SqlTypeMapper sqlTypeMapper = columnMappers[columnIndex - 1];
         return sqlTypeMapper.toObject(resultSet, columnIndex);
     }
 
-    public Object clobToString(ResultSet resultSet, int columnIndex) throws SQLException {
-        StringBuffer stringBuffer = new StringBuffer();
+    private SqlTypeMapper[] getColumnMappers(ResultSetMetaData metaData) throws SQLException {
+        SqlTypeMapper[] columnMappers = new SqlTypeMapper[metaData.getColumnCount()];
+        for (int i = 0; i < columnMappers.length; i++) {
+            int columnType = metaData.getColumnType(i + 1);
+            columnMappers[i] = sqlTypeMappers.getOrDefault(columnType, ResultSet::getObject);
+        }
+        return columnMappers;
+    }
+
+    private Object clob(ResultSet resultSet, int columnIndex) throws SQLException {
+        return lazyLobs ? resultSet.getClob(columnIndex) : clobToString(resultSet, columnIndex);
+    }
 
+    private Object nclob(ResultSet resultSet, int columnIndex) throws SQLException {
+        return lazyLobs ? resultSet.getNClob(columnIndex) : clobToString(resultSet, columnIndex);
+    }
+
+    private Object blob(ResultSet resultSet, int columnIndex) throws SQLException {
+        return lazyLobs ? resultSet.getBlob(columnIndex) : blobToByteArray(resultSet, columnIndex);
+    }
+
+    /**
+     * Reads the clob's characters into a {@link String}. The clob's {@link Clob#length() length} is used to
+     * allocate a char array up front, so that the characters are read directly into the array the {@link String}
+     * is created from.
+     */
+    public Object clobToString(ResultSet resultSet, int columnIndex) throws SQLException {
         Clob clob = resultSet.getClob(columnIndex);
-        try (Reader reader = new BufferedReader(new InputStreamReader(clob.getAsciiStream()))) {
-            char[] buff = new char[8192];
+        if (clob == null) {
+            return null;
+        }
 
-            int read;
-            while ((read = reader.read(buff)) > 0) {
-                stringBuffer.append(buff, 0, read);
+        char[] chars = new char[toCapacity(clob.length())];
+        try (Reader reader = clob.getCharacterStream()) {
+            int length = 0;
+            while (true) {
+                if (length == chars.length) {
+                    int next = reader.read();
+                    if (next == -1) {
+                        break;
+                    }
+                    chars = Arrays.copyOf(chars, Math.max(length * 2, LOB_BUFFER_SIZE));
+                    chars[length++] = (char) next;
+                }
+
+                int read = reader.read(chars, length, chars.length - length);
+                if (read == -1) {
+                    break;
+                }
+                length += read;
             }
+            return new String(chars, 0, length);
         } catch (IOException e) {
             throw new SQLException(e);
         }
-
-        return stringBuffer.toString();
     }
 
+    /**
+     * Reads the blob's bytes into a byte array. The blob's {@link Blob#length() length} is used to
+     * allocate the byte array up front so that the bytes are read directly into the result array.
+     */
     public byte[] blobToByteArray(ResultSet resultSet, int columnIndex) throws SQLException {
-        ByteArrayOutputStream bout = new ByteArrayOutputStream();
-
         Blob blob = resultSet.getBlob(columnIndex);
-        try (InputStream in = new BufferedInputStream(blob.getBinaryStream())) {
-            byte[] buff = new byte[8192];
+        if (blob == null) {
+            return null;
+        }
 
-            int read;
-            while ((read = in.read(buff)) > 0) {
-                bout.write(buff, 0, read);
+        byte[] bytes = new byte[toCapacity(blob.length())];
+        try (InputStream in = blob.getBinaryStream()) {
+            int length = 0;
+            while (true) {
+                if (length == bytes.length) {
+                    int next = in.read();
+                    if (next == -1) {
+                        break;
+                    }
+                    bytes = Arrays.copyOf(bytes, Math.max(length * 2, LOB_BUFFER_SIZE));
+                    bytes[length++] = (byte) next;
+                }
+
+                int read = in.read(bytes, length, bytes.length - length);
+                if (read == -1) {
+                    break;
+                }
+                length += read;
             }
+            return length == bytes.length ? bytes : Arrays.copyOf(bytes, length);
         } catch (IOException e) {
             throw new SQLException(e);
         }
+    }
 
-        return bout.toByteArray();
+    private static int toCapacity(long lobLength) throws SQLException {
+        if (lobLength > Integer.MAX_VALUE - 8) {
+            throw new SQLException("Lob of length " + lobLength + " exceeds the maximum array size. Use lazy lobs to stream it.");
+        }
+        return (int) Math.max(lobLength, 0);
     }
 
     public Object dateToLocalDate(ResultSet resultSet, int columnIndex) throws SQLException {
@@ -1,5 +1,6 @@
 package com.link_intersystems.jdbc;
 
+import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
@@ -48,6 +49,38 @@ public class ForeignKeyEntry {
         deferability = foreignKeyResultSet.getShort("DEFERRABILITY");
     }
 
+    ForeignKeyEntry(SnapshotReader reader) throws IOException {
+        pkTableCategory = reader.readString();
+        pkSchema = reader.readString();
+        pkTableName = reader.readString();
+        pkColumnName = reader.readString();
+        fkTableCategory = reader.readString();
+        fkSchema = reader.readString();
+        fkTableName = reader.readString();
+        fkColumnName = reader.readString();
+        updateRule = reader.readShort();
+        deleteRule = reader.readShort();
+        fkName = reader.readString();
+        pkName = reader.readString();
+        deferability = reader.readShort();
+    }
+
+    void writeTo(SnapshotWriter writer) throws IOException {
+        writer.writeString(pkTableCategory);
+        writer.writeString(pkSchema);
+        writer.writeString(pkTableName);
+        writer.writeString(pkColumnName);
+        writer.writeString(fkTableCategory);
+        writer.writeString(fkSchema);
+        writer.writeString(fkTableName);
+        writer.writeString(fkColumnName);
+        writer.writeShort(updateRule);
+        writer.writeShort(deleteRule);
+        writer.writeString(fkName);
+        writer.writeString(pkName);
+        writer.writeShort(deferability);
+    }
+
     public String getPkCategory() {
         return pkTableCategory;
     }
@@ -9,11 +9,16 @@ import java.util.Objects;
 import java.util.function.Supplier;
 
 /**
+ * Maps a row to a {@link Map} of column names to column values.
+ * <p>
+ * The column names are only read once per {@link ResultSet} and reused for each of its rows.
+ *
  * @author René Link {@literal <rene.link@link-intersystems.com>}
  */
 public class MapRowMapper implements RowMapper<Map<String, Object>> {
 
     private Supplier<Map<String, Object>> mapSupplier;
+    private ResultSetPlanCache<String[]> columnNamesCache = new ResultSetPlanCache<>(MapRowMapper::getColumnNames);
 
     public MapRowMapper() {
         this(LinkedHashMap::new);
@@ -27,13 +32,20 @@ public class MapRowMapper implements RowMapper<Map<String, Object>> {
     public Map<String, Object> map(ResultSet resultSet) throws SQLException {
         Map<String, Object> row = mapSupplier.get();
 
-        ResultSetMetaData metaData = resultSet.getMetaData();
-        for (int columnIndex = 1; columnIndex <= metaData.getColumnCount(); columnIndex++) {
-            String columnName = metaData.getColumnName(columnIndex);
-            Object columnValue = resultSet.getObject(columnIndex);
-            row.put(columnName, columnValue);
+        String[] columnNames = columnNamesCache.getPlan(resultSet);
+        for (int i = 0; i < columnNames.length; i++) {
+            Object columnValue = resultSet.getObject(i + 1);
+            row.put(columnNames[i], columnValue);
         }
 
         return row;
     }
+
+    private static String[] getColumnNames(ResultSetMetaData metaData) throws SQLException {
+        String[] columnNames = new String[metaData.getColumnCount()];
+        for (int i = 0; i < columnNames.length; i++) {
+            columnNames[i] = metaData.getColumnName(i + 1);
+        }
+        return columnNames;
+    }
 }
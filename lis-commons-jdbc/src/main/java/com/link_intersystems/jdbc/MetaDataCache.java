@@ -0,0 +1,124 @@
+package com.link_intersystems.jdbc;
+
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A thread-safe cache for meta-data objects by table name that can be shared between threads.
+ * Entries expire after a time to live, if a time to live greater 0 is given. <code>null</code> values,
+ * e.g. a table without a primary key, are cached as well.
+ * <p>
+ * Each value is loaded only once, even if several threads request it at the same time. The other threads wait
+ * for the loading thread. Failed loads are not cached. A {@link Loader} must not request the value it is
+ * loading from the same cache.
+ *
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+class MetaDataCache<V> {
+
+    static interface Loader<V> {
+        V load(String tableName) throws SQLException;
+    }
+
+    private static class Entry<V> {
+
+        private final FutureTask<V> value;
+        private final long loadedAt;
+
+        Entry(FutureTask<V> value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+
+        V get() throws SQLException {
+            boolean interrupted = false;
+            try {
+                while (true) {
+                    try {
+                        return value.get();
+                    } catch (InterruptedException e) {
+                        // the value is loaded by another thread that shares the connection. Wait for it.
+                        interrupted = true;
+                    }
+                }
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException) {
+                    throw (SQLException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new SQLException(cause);
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private final ConcurrentMap<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final LongSupplier timeToLiveNanos;
+
+    /**
+     * @param timeToLiveNanos supplies the time to live of the entries in nanoseconds. Entries never expire
+     *                        if the time to live is 0.
+     */
+    MetaDataCache(LongSupplier timeToLiveNanos) {
+        this.timeToLiveNanos = requireNonNull(timeToLiveNanos);
+    }
+
+    V get(String tableName, Loader<V> loader) throws SQLException {
+        Entry<V> entry = entries.get(tableName);
+
+        while (entry == null || isExpired(entry)) {
+            /*
+             * The value is not loaded in compute, because a loader might use other caches
+             * and loading meta-data can take some time. Only the thread that registered the
+             * entry loads the value, all others wait for it.
+             */
+            Entry<V> newEntry = new Entry<>(new FutureTask<>(() -> loader.load(tableName)), System.nanoTime());
+            boolean registered = entry == null ? entries.putIfAbsent(tableName, newEntry) == null : entries.replace(tableName, entry, newEntry);
+
+            if (registered) {
+                newEntry.value.run();
+                entry = newEntry;
+                break;
+            }
+
+            entry = entries.get(tableName);
+        }
+
+        try {
+            return entry.get();
+        } catch (SQLException | RuntimeException | Error e) {
+            entries.remove(tableName, entry);
+            throw e;
+        }
+    }
+
+    void put(String tableName, V value) {
+        FutureTask<V> loadedValue = new FutureTask<>(() -> value);
+        loadedValue.run();
+        entries.put(tableName, new Entry<>(loadedValue, System.nanoTime()));
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    private boolean isExpired(Entry<V> entry) {
+        long timeToLive = timeToLiveNanos.getAsLong();
+        return timeToLive > 0 && System.nanoTime() - entry.loadedAt >= timeToLive;
+    }
+}
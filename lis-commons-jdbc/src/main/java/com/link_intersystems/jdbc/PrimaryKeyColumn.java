@@ -1,5 +1,6 @@
 package com.link_intersystems.jdbc;
 
+import java.io.IOException;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -28,6 +29,24 @@ public class PrimaryKeyColumn implements Comparable<PrimaryKeyColumn> {
         primaryKeyName = primaryKeyResultSet.getString("PK_NAME");
     }
 
+    PrimaryKeyColumn(SnapshotReader reader) throws IOException {
+        catalogName = reader.readString();
+        schemaName = reader.readString();
+        tableName = reader.readString();
+        columnName = reader.readString();
+        keySequenceNumber = reader.readShort();
+        primaryKeyName = reader.readString();
+    }
+
+    void writeTo(SnapshotWriter writer) throws IOException {
+        writer.writeString(catalogName);
+        writer.writeString(schemaName);
+        writer.writeString(tableName);
+        writer.writeString(columnName);
+        writer.writeShort(keySequenceNumber);
+        writer.writeString(primaryKeyName);
+    }
+
     public String getTableName() {
         return tableName;
     }
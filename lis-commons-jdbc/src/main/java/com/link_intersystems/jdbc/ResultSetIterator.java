@@ -0,0 +1,68 @@
+package com.link_intersystems.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An {@link Iterator} that lazily maps the rows of an open {@link ResultSet} using a {@link RowMapper}. The
+ * {@link ResultSet} is only advanced when the next element is requested. Thus only the current row is held in memory,
+ * no matter how many rows the {@link ResultSet} contains.
+ * <p>
+ * A {@link ResultSetIterator} owns the {@link ResultSet} and closes it when it is closed.
+ * {@link SQLException}s are rethrown as {@link ResultSetMappingException}s.
+ *
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ * @see ResultSetMapper#iterator(ResultSet)
+ */
+public class ResultSetIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private final ResultSet resultSet;
+    private final RowMapper<T> rowMapper;
+
+    private boolean nextRowFetched;
+    private boolean hasNextRow;
+
+    public ResultSetIterator(ResultSet resultSet, RowMapper<T> rowMapper) {
+        this.resultSet = requireNonNull(resultSet);
+        this.rowMapper = requireNonNull(rowMapper);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!nextRowFetched) {
+            try {
+                hasNextRow = resultSet.next();
+            } catch (SQLException e) {
+                throw new ResultSetMappingException(e);
+            }
+            nextRowFetched = true;
+        }
+        return hasNextRow;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        nextRowFetched = false;
+        try {
+            return rowMapper.map(resultSet);
+        } catch (SQLException e) {
+            throw new ResultSetMappingException(e);
+        }
+    }
+
+    /**
+     * Closes the underlying {@link ResultSet}.
+     */
+    @Override
+    public void close() throws SQLException {
+        resultSet.close();
+    }
+}
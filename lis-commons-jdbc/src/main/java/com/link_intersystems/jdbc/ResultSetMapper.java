@@ -5,15 +5,33 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
+ * Maps the rows of a {@link ResultSet} using a {@link RowMapper}.
+ * <p>
+ * {@link #map(ResultSet)} collects all rows in a {@link List}. Large results should be mapped
+ * using {@link #stream(ResultSet)} or {@link #iterator(ResultSet)}. These only map a row when it is requested
+ * and thus need memory independent of the result size.
+ *
+ * <pre>
+ * try (Statement stmt = connection.createStatement();
+ *      Stream&lt;Map&lt;String, Object&gt;&gt; rows = resultSetMapper.stream(stmt.executeQuery("select * from actor"))) {
+ *     rows.forEach(exporter::export);
+ * }
+ * </pre>
+ *
  * @author René Link {@literal <rene.link@link-intersystems.com>}
  */
 public class ResultSetMapper<T> {
 
     private RowMapper<T> rowMapper;
     private Supplier<List<T>> listSupplier;
+    private int fetchSize;
 
     public ResultSetMapper(RowMapper<T> rowMapper) {
         this(rowMapper, ArrayList::new);
@@ -24,7 +42,24 @@ public class ResultSetMapper<T> {
         this.listSupplier = Objects.requireNonNull(listSupplier);
     }
 
+    /**
+     * Sets the {@link ResultSet#setFetchSize(int) fetch size} that is applied to a {@link ResultSet} before it is
+     * mapped. The default is 0, which means that the {@link ResultSet}'s fetch size is not changed.
+     */
+    public void setFetchSize(int fetchSize) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("fetchSize must be 0 or greater");
+        }
+        this.fetchSize = fetchSize;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
     public List<T> map(ResultSet resultSet) throws SQLException {
+        applyFetchSize(resultSet);
+
         List<T> resultList = listSupplier.get();
 
         while (resultSet.next()) {
@@ -34,4 +69,40 @@ public class ResultSetMapper<T> {
 
         return resultList;
     }
+
+    /**
+     * Returns a {@link ResultSetIterator} that lazily maps the rows of the given {@link ResultSet}. The
+     * {@link ResultSet} is closed when the iterator is closed.
+     */
+    public ResultSetIterator<T> iterator(ResultSet resultSet) throws SQLException {
+        applyFetchSize(resultSet);
+        return new ResultSetIterator<>(resultSet, rowMapper);
+    }
+
+    /**
+     * Returns a sequential {@link Stream} that lazily maps the rows of the given {@link ResultSet}. The
+     * {@link ResultSet} is closed when the {@link Stream} is closed. Thus the {@link Stream} should be used
+     * within a try-with-resources statement. Other resources, like the {@link java.sql.Statement} the
+     * {@link ResultSet} was created with, can be registered using {@link Stream#onClose(Runnable)}.
+     * <p>
+     * {@link SQLException}s that occur while the stream is consumed are thrown as
+     * {@link ResultSetMappingException}s.
+     */
+    public Stream<T> stream(ResultSet resultSet) throws SQLException {
+        ResultSetIterator<T> iterator = iterator(resultSet);
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                iterator.close();
+            } catch (SQLException e) {
+                throw new ResultSetMappingException(e);
+            }
+        });
+    }
+
+    private void applyFetchSize(ResultSet resultSet) throws SQLException {
+        if (fetchSize > 0) {
+            resultSet.setFetchSize(fetchSize);
+        }
+    }
 }
@@ -0,0 +1,22 @@
+package com.link_intersystems.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Signals that a {@link ResultSet} could not be mapped in a context that does not allow checked exceptions, like
+ * an {@link java.util.Iterator} or a {@link java.util.stream.Stream}.
+ *
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+public class ResultSetMappingException extends RuntimeException {
+
+    public ResultSetMappingException(SQLException cause) {
+        super(cause);
+    }
+
+    @Override
+    public synchronized SQLException getCause() {
+        return (SQLException) super.getCause();
+    }
+}
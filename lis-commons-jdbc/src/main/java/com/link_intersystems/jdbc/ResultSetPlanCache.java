@@ -0,0 +1,54 @@
+package com.link_intersystems.jdbc;
+
+import java.lang.ref.WeakReference;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Caches a plan that is derived from a {@link ResultSet}'s {@link ResultSetMetaData}, e.g. the column names or the
+ * value extractors per column. The plan is computed when a {@link ResultSet} is passed the first time and reused as
+ * long as the same {@link ResultSet} is passed. Thus the meta-data is only accessed once per {@link ResultSet} instead
+ * of once per row or even per cell.
+ * <p>
+ * Only the plan of the latest {@link ResultSet} is cached. The {@link ResultSet} is only weakly referenced so that
+ * the cache does not prevent it from being garbage collected.
+ *
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+class ResultSetPlanCache<P> {
+
+    static interface PlanFactory<P> {
+        P createPlan(ResultSetMetaData metaData) throws SQLException;
+    }
+
+    private static class Entry<P> {
+
+        private final WeakReference<ResultSet> resultSetRef;
+        private final P plan;
+
+        Entry(ResultSet resultSet, P plan) {
+            this.resultSetRef = new WeakReference<>(resultSet);
+            this.plan = plan;
+        }
+    }
+
+    private final PlanFactory<P> planFactory;
+    private volatile Entry<P> entry;
+
+    ResultSetPlanCache(PlanFactory<P> planFactory) {
+        this.planFactory = requireNonNull(planFactory);
+    }
+
+    P getPlan(ResultSet resultSet) throws SQLException {
+        Entry<P> entry = this.entry;
+        if (entry == null || entry.resultSetRef.get() != resultSet) {
+            P plan = planFactory.createPlan(resultSet.getMetaData());
+            entry = new Entry<>(resultSet, plan);
+            this.entry = entry;
+        }
+        return entry.plan;
+    }
+}
@@ -0,0 +1,55 @@
+package com.link_intersystems.jdbc;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.link_intersystems.jdbc.SnapshotWriter.NEW_STRING;
+import static com.link_intersystems.jdbc.SnapshotWriter.NULL_STRING;
+
+/**
+ * Reads the primitive values that were written by a {@link SnapshotWriter}.
+ *
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+class SnapshotReader {
+
+    private final DataInputStream in;
+    private final List<String> stringPool = new ArrayList<>();
+
+    SnapshotReader(InputStream in) {
+        this.in = new DataInputStream(in);
+    }
+
+    String readString() throws IOException {
+        int marker = in.readInt();
+        if (marker == NULL_STRING) {
+            return null;
+        }
+
+        if (marker == NEW_STRING) {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            stringPool.add(value);
+            return value;
+        }
+
+        if (marker < 0 || marker >= stringPool.size()) {
+            throw new StreamCorruptedException("Invalid string reference " + marker);
+        }
+        return stringPool.get(marker);
+    }
+
+    int readInt() throws IOException {
+        return in.readInt();
+    }
+
+    short readShort() throws IOException {
+        return in.readShort();
+    }
+}
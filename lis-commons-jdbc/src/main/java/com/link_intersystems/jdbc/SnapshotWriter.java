@@ -0,0 +1,60 @@
+package com.link_intersystems.jdbc;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes the primitive values of a {@link ConnectionMetaDataSnapshot}. Strings are pooled, because catalog, schema,
+ * table and type names are repeated in nearly every meta-data entry. The first occurrence of a string is written
+ * in full and every further occurrence only as a reference to the first.
+ *
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ * @see SnapshotReader
+ */
+class SnapshotWriter {
+
+    static final int NULL_STRING = -1;
+    static final int NEW_STRING = -2;
+
+    private final DataOutputStream out;
+    private final Map<String, Integer> stringPool = new HashMap<>();
+
+    SnapshotWriter(OutputStream out) {
+        this.out = new DataOutputStream(out);
+    }
+
+    void writeString(String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_STRING);
+            return;
+        }
+
+        Integer poolIndex = stringPool.get(value);
+        if (poolIndex != null) {
+            out.writeInt(poolIndex);
+            return;
+        }
+
+        stringPool.put(value, stringPool.size());
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(NEW_STRING);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    void writeInt(int value) throws IOException {
+        out.writeInt(value);
+    }
+
+    void writeShort(short value) throws IOException {
+        out.writeShort(value);
+    }
+
+    void flush() throws IOException {
+        out.flush();
+    }
+}
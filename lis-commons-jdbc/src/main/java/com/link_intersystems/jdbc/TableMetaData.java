@@ -1,5 +1,6 @@
 package com.link_intersystems.jdbc;
 
+import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
@@ -35,6 +36,32 @@ public class TableMetaData {
         refGeneration = tablesResultSet.getString("REF_GENERATION");
     }
 
+    TableMetaData(SnapshotReader reader) throws IOException {
+        catalog = reader.readString();
+        schema = reader.readString();
+        tableName = reader.readString();
+        tableType = reader.readString();
+        remarks = reader.readString();
+        typeCatalog = reader.readString();
+        typeSchama = reader.readString();
+        typeName = reader.readString();
+        selfReferencingColumnName = reader.readString();
+        refGeneration = reader.readString();
+    }
+
+    void writeTo(SnapshotWriter writer) throws IOException {
+        writer.writeString(catalog);
+        writer.writeString(schema);
+        writer.writeString(tableName);
+        writer.writeString(tableType);
+        writer.writeString(remarks);
+        writer.writeString(typeCatalog);
+        writer.writeString(typeSchama);
+        writer.writeString(typeName);
+        writer.writeString(selfReferencingColumnName);
+        writer.writeString(refGeneration);
+    }
+
     public String getCatalogName() {
         return catalog;
     }
@@ -8,13 +8,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.time.Duration;
+import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author René Link {@literal <rene.link@link-intersystems.com>}
@@ -25,12 +29,13 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 class ConnectionMetaDataTest {
 
     private ConnectionMetaData metaDataRepository;
+    private JdbcContext jdbcContext;
 
     @BeforeEach
     void setUp(Connection connection) {
         JdbcContext.Builder builder = new JdbcContext.Builder();
         builder.setSchema("sakila");
-        JdbcContext jdbcContext = builder.build();
+        jdbcContext = builder.build();
         metaDataRepository = new ConnectionMetaData(connection, jdbcContext);
     }
 
@@ -208,4 +213,103 @@ class ConnectionMetaDataTest {
 
         assertEquals("fk_film_actor_actor<film_actor([actor_id]) -> actor([actor_id])>", outgoingReferences.getByName("fk_film_actor_actor").toString());
     }
-}
\ No newline at end of file
+
+    @Test
+    void prefetch() throws SQLException {
+        metaDataRepository.prefetch();
+
+        assertEquals(13, metaDataRepository.getColumnMetaDataList("film").size());
+
+        PrimaryKey primaryKey = metaDataRepository.getPrimaryKey("film_actor");
+        assertEquals(2, primaryKey.size());
+        assertEquals("pk_film_actor", primaryKey.getName());
+
+        ForeignKeyList importedKeys = metaDataRepository.getImportedKeys("film_actor");
+        assertEquals(2, importedKeys.size());
+
+        ForeignKeyList exportedKeys = metaDataRepository.getExportedKeys("actor");
+        assertEquals(2, exportedKeys.size());
+        assertNotNull(exportedKeys.getByName("fk_film_actor_actor"));
+        assertNotNull(exportedKeys.getByName("fk_actor_genre_actor"));
+
+        TableReferenceList incomingReferences = metaDataRepository.getIncomingReferences("actor");
+        TableReferenceList outgoingReferences = metaDataRepository.getOutgoingReferences("film_actor");
+        assertEquals(outgoingReferences.getByName("fk_film_actor_actor"), incomingReferences.getByName("fk_film_actor_actor"));
+    }
+
+    @Test
+    void invalidate() throws SQLException {
+        ColumnMetaDataList columnMetaDataList = metaDataRepository.getColumnMetaDataList("film");
+        assertSame(columnMetaDataList, metaDataRepository.getColumnMetaDataList("film"));
+
+        metaDataRepository.invalidate();
+
+        assertNotSame(columnMetaDataList, metaDataRepository.getColumnMetaDataList("film"));
+    }
+
+    @Test
+    void timeToLive() throws SQLException {
+        metaDataRepository.setTimeToLive(Duration.ofNanos(1));
+
+        ColumnMetaDataList columnMetaDataList = metaDataRepository.getColumnMetaDataList("film");
+
+        assertNotSame(columnMetaDataList, metaDataRepository.getColumnMetaDataList("film"));
+    }
+
+    @Test
+    void snapshot(Connection connection) throws SQLException, IOException {
+        ConnectionMetaDataSnapshot snapshot = metaDataRepository.createSnapshot("1.0");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        snapshot.writeTo(out);
+
+        ConnectionMetaDataSnapshot restoredSnapshot = ConnectionMetaDataSnapshot.readFrom(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals("1.0", restoredSnapshot.getSchemaVersion());
+        assertEquals(snapshot.getTableMetaDataList().size(), restoredSnapshot.getTableMetaDataList().size());
+
+        ConnectionMetaData restoredMetaData = new ConnectionMetaData(connection, jdbcContext);
+        restoredMetaData.restore(restoredSnapshot);
+
+        TableMetaData actor = restoredMetaData.getTableMetaData("actor");
+        assertEquals("sakila", actor.getSchemaName());
+
+        ColumnMetaDataList columnMetaDataList = restoredMetaData.getColumnMetaDataList("film");
+        assertEquals(13, columnMetaDataList.size());
+        ColumnMetaData title = columnMetaDataList.getByName("title");
+        assertEquals(Types.VARCHAR, title.getDataType());
+        assertEquals(255, title.getColumnSize());
+
+        PrimaryKey primaryKey = restoredMetaData.getPrimaryKey("film_actor");
+        assertEquals("pk_film_actor", primaryKey.getName());
+        assertEquals("actor_id", primaryKey.get(0).getColumnName());
+        assertEquals("film_id", primaryKey.get(1).getColumnName());
+
+        assertEquals(2, restoredMetaData.getExportedKeys("actor").size());
+        assertEquals("fk_film_actor_actor<film_actor([actor_id]) -> actor([actor_id])>",
+                restoredMetaData.getOutgoingReferences("film_actor").getByName("fk_film_actor_actor").toString());
+    }
+
+    @Test
+    void restoreCreatesPrimaryKeys(Connection connection) throws SQLException {
+        ConnectionMetaDataSnapshot snapshot = metaDataRepository.createSnapshot("1.0");
+
+        ConnectionMetaData restoredMetaData = new ConnectionMetaData(connection, jdbcContext) {
+            @Override
+            protected PrimaryKey createPrimaryKey(ColumnMetaDataList columnMetaDataList, List<PrimaryKeyColumn> primaryKeyColumns) {
+                PrimaryKey primaryKey = super.createPrimaryKey(columnMetaDataList, primaryKeyColumns);
+                return primaryKey == null ? null : new PrimaryKey(primaryKey.getName().toUpperCase(), primaryKey);
+            }
+        };
+        restoredMetaData.restore(snapshot);
+
+        PrimaryKey primaryKey = restoredMetaData.getPrimaryKey("film_actor");
+        assertEquals("PK_FILM_ACTOR", primaryKey.getName());
+        assertEquals("actor_id", primaryKey.get(0).getColumnName());
+        assertEquals("film_id", primaryKey.get(1).getColumnName());
+    }
+
+    @Test
+    void readInvalidSnapshot() {
+        assertThrows(IOException.class, () -> ConnectionMetaDataSnapshot.readFrom(new ByteArrayInputStream(new byte[]{1, 2, 3, 4})));
+    }
+}
@@ -0,0 +1,122 @@
+package com.link_intersystems.jdbc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
+import java.io.ByteArrayInputStream;
+import java.io.CharArrayReader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+class DefaultSqlTypeMapperTest {
+
+    private ResultSet resultSet;
+    private ResultSetMetaData metaData;
+    private DefaultSqlTypeMapper sqlTypeMapper;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        resultSet = mock(ResultSet.class);
+        metaData = mock(ResultSetMetaData.class);
+
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnType(1)).thenReturn(Types.CLOB);
+        when(metaData.getColumnType(2)).thenReturn(Types.BLOB);
+
+        sqlTypeMapper = new DefaultSqlTypeMapper();
+    }
+
+    @Test
+    void clob() throws SQLException {
+        char[] chars = new char[20000];
+        Arrays.fill(chars, 'ä');
+        when(resultSet.getClob(1)).thenReturn(new SerialClob(chars));
+
+        assertEquals(new String(chars), sqlTypeMapper.toObject(resultSet, 1));
+    }
+
+    @Test
+    void clobLongerThanReportedLength() throws SQLException {
+        char[] chars = new char[20000];
+        Arrays.fill(chars, 'ä');
+        Clob clob = mock(Clob.class);
+        when(clob.length()).thenReturn(10L);
+        when(clob.getCharacterStream()).thenReturn(new CharArrayReader(chars));
+        when(resultSet.getClob(1)).thenReturn(clob);
+
+        assertEquals(new String(chars), sqlTypeMapper.toObject(resultSet, 1));
+    }
+
+    @Test
+    void clobShorterThanReportedLength() throws SQLException {
+        Clob clob = mock(Clob.class);
+        when(clob.length()).thenReturn(10L);
+        when(clob.getCharacterStream()).thenReturn(new CharArrayReader("clob".toCharArray()));
+        when(resultSet.getClob(1)).thenReturn(clob);
+
+        assertEquals("clob", sqlTypeMapper.toObject(resultSet, 1));
+    }
+
+    @Test
+    void nullClob() throws SQLException {
+        assertNull(sqlTypeMapper.toObject(resultSet, 1));
+    }
+
+    @Test
+    void blob() throws SQLException {
+        byte[] bytes = new byte[20000];
+        Arrays.fill(bytes, (byte) 42);
+        when(resultSet.getBlob(2)).thenReturn(new SerialBlob(bytes));
+
+        assertArrayEquals(bytes, (byte[]) sqlTypeMapper.toObject(resultSet, 2));
+    }
+
+    @Test
+    void blobLongerThanReportedLength() throws SQLException {
+        byte[] bytes = new byte[20000];
+        Arrays.fill(bytes, (byte) 42);
+        Blob blob = mock(Blob.class);
+        when(blob.length()).thenReturn(10L);
+        when(blob.getBinaryStream()).thenReturn(new ByteArrayInputStream(bytes));
+        when(resultSet.getBlob(2)).thenReturn(blob);
+
+        assertArrayEquals(bytes, (byte[]) sqlTypeMapper.toObject(resultSet, 2));
+    }
+
+    @Test
+    void nullBlob() throws SQLException {
+        assertNull(sqlTypeMapper.toObject(resultSet, 2));
+    }
+
+    @Test
+    void lazyLobs() throws SQLException {
+        Clob clob = new SerialClob("clob".toCharArray());
+        Blob blob = new SerialBlob(new byte[]{1, 2, 3});
+        when(resultSet.getClob(1)).thenReturn(clob);
+        when(resultSet.getBlob(2)).thenReturn(blob);
+
+        sqlTypeMapper.setLazyLobs(true);
+
+        assertSame(clob, sqlTypeMapper.toObject(resultSet, 1));
+        assertSame(blob, sqlTypeMapper.toObject(resultSet, 2));
+    }
+
+    @Test
+    void invalidColumnIndex() {
+        assertThrows(SQLException.class, () -> sqlTypeMapper.toObject(resultSet, 3));
+    }
+}
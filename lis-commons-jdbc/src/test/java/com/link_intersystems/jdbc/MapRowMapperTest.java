@@ -9,8 +9,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 /**
  * @author René Link {@literal <rene.link@link-intersystems.com>}
@@ -41,4 +40,33 @@ class MapRowMapperTest {
             }
         }, row);
     }
-}
\ No newline at end of file
+
+    @Test
+    void metaDataIsReadOncePerResultSet() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+
+        when(resultSet.getMetaData()).thenReturn(metaData);
+
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnName(1)).thenReturn("col1");
+        when(resultSet.getObject(1)).thenReturn("A").thenReturn("B");
+
+        MapRowMapper mapRowMapper = new MapRowMapper();
+
+        assertEquals("A", mapRowMapper.map(resultSet).get("col1"));
+        assertEquals("B", mapRowMapper.map(resultSet).get("col1"));
+
+        verify(resultSet, times(1)).getMetaData();
+        verify(metaData, times(1)).getColumnName(1);
+
+        ResultSet otherResultSet = mock(ResultSet.class);
+        ResultSetMetaData otherMetaData = mock(ResultSetMetaData.class);
+        when(otherResultSet.getMetaData()).thenReturn(otherMetaData);
+        when(otherMetaData.getColumnCount()).thenReturn(1);
+        when(otherMetaData.getColumnName(1)).thenReturn("col2");
+        when(otherResultSet.getObject(1)).thenReturn("C");
+
+        assertEquals("C", mapRowMapper.map(otherResultSet).get("col2"));
+    }
+}
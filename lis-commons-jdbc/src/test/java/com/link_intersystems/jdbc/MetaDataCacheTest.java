@@ -0,0 +1,89 @@
+package com.link_intersystems.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+class MetaDataCacheTest {
+
+    @Test
+    void concurrentGetLoadsOnce() throws Exception {
+        MetaDataCache<String> cache = new MetaDataCache<>(() -> 0);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch waiting = new CountDownLatch(1);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executorService.submit(() -> cache.get("actor", tableName -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(waiting);
+                return tableName.toUpperCase();
+            }));
+
+            loading.await();
+            Future<String> second = executorService.submit(() -> cache.get("actor", tableName -> {
+                loads.incrementAndGet();
+                return tableName;
+            }));
+
+            waiting.countDown();
+
+            assertEquals("ACTOR", first.get(10, TimeUnit.SECONDS));
+            assertEquals("ACTOR", second.get(10, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) throws SQLException {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new SQLException(e);
+        }
+    }
+
+    @Test
+    void failedLoadIsNotCached() throws SQLException {
+        MetaDataCache<String> cache = new MetaDataCache<>(() -> 0);
+
+        SQLException sqlException = new SQLException();
+        SQLException thrown = assertThrows(SQLException.class, () -> cache.get("actor", tableName -> {
+            throw sqlException;
+        }));
+        assertSame(sqlException, thrown);
+
+        assertEquals("actor", cache.get("actor", tableName -> tableName));
+    }
+
+    @Test
+    void nullValueIsCached() throws SQLException {
+        MetaDataCache<String> cache = new MetaDataCache<>(() -> 0);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertNull(cache.get("actor", tableName -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertNull(cache.get("actor", tableName -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+
+        assertEquals(1, loads.get());
+    }
+}
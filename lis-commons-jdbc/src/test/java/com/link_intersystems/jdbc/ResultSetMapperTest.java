@@ -8,11 +8,13 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static java.util.stream.Collectors.toList;
+import static org.mockito.Mockito.*;
 
 /**
  * @author René Link {@literal <rene.link@link-intersystems.com>}
@@ -33,4 +35,102 @@ class ResultSetMapperTest {
 
         assertEquals(asList("A", "B"), result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void stream() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        RowMapper<String> rowMapper = mock(RowMapper.class);
+
+        when(resultSet.next()).thenReturn(true).thenReturn(true).thenReturn(false);
+        when(rowMapper.map(resultSet)).thenReturn("A").thenReturn("B");
+
+        ResultSetMapper<String> resultSetMapper = new ResultSetMapper<>(rowMapper);
+
+        List<String> result;
+        try (Stream<String> stream = resultSetMapper.stream(resultSet)) {
+            verify(rowMapper, never()).map(resultSet);
+            result = stream.collect(toList());
+            verify(resultSet, never()).close();
+        }
+
+        assertEquals(asList("A", "B"), result);
+        verify(resultSet).close();
+    }
+
+    @Test
+    void streamIsLazy() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        RowMapper<String> rowMapper = mock(RowMapper.class);
+
+        when(resultSet.next()).thenReturn(true);
+        when(rowMapper.map(resultSet)).thenReturn("A").thenReturn("B").thenReturn("C");
+
+        ResultSetMapper<String> resultSetMapper = new ResultSetMapper<>(rowMapper);
+
+        try (Stream<String> stream = resultSetMapper.stream(resultSet)) {
+            assertEquals(asList("A", "B"), stream.limit(2).collect(toList()));
+        }
+
+        verify(rowMapper, times(2)).map(resultSet);
+    }
+
+    @Test
+    void streamSQLException() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        RowMapper<String> rowMapper = mock(RowMapper.class);
+
+        SQLException sqlException = new SQLException();
+        when(resultSet.next()).thenThrow(sqlException);
+
+        ResultSetMapper<String> resultSetMapper = new ResultSetMapper<>(rowMapper);
+
+        try (Stream<String> stream = resultSetMapper.stream(resultSet)) {
+            ResultSetMappingException e = assertThrows(ResultSetMappingException.class, () -> stream.collect(toList()));
+            assertSame(sqlException, e.getCause());
+        }
+    }
+
+    @Test
+    void iterator() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        RowMapper<String> rowMapper = mock(RowMapper.class);
+
+        when(resultSet.next()).thenReturn(true).thenReturn(false);
+        when(rowMapper.map(resultSet)).thenReturn("A");
+
+        ResultSetMapper<String> resultSetMapper = new ResultSetMapper<>(rowMapper);
+
+        try (ResultSetIterator<String> iterator = resultSetMapper.iterator(resultSet)) {
+            assertTrue(iterator.hasNext());
+            assertTrue(iterator.hasNext());
+            assertEquals("A", iterator.next());
+            assertFalse(iterator.hasNext());
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+
+        verify(resultSet, times(2)).next();
+        verify(resultSet).close();
+    }
+
+    @Test
+    void fetchSize() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        RowMapper<String> rowMapper = mock(RowMapper.class);
+
+        ResultSetMapper<String> resultSetMapper = new ResultSetMapper<>(rowMapper);
+        resultSetMapper.map(resultSet);
+        verify(resultSet, never()).setFetchSize(anyInt());
+
+        resultSetMapper.setFetchSize(500);
+        resultSetMapper.stream(resultSet).close();
+
+        verify(resultSet).setFetchSize(500);
+    }
+
+    @Test
+    void negativeFetchSize() {
+        ResultSetMapper<String> resultSetMapper = new ResultSetMapper<>(mock(RowMapper.class));
+
+        assertThrows(IllegalArgumentException.class, () -> resultSetMapper.setFetchSize(-1));
+    }
+}
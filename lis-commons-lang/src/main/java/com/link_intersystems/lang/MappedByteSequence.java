@@ -0,0 +1,162 @@
+package com.link_intersystems.lang;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link ByteSequence} of a file's content that is mapped into memory. The bytes are read by the operating system
+ * when they are accessed and are not copied onto the heap.
+ * <p>
+ * Since a single {@link java.nio.MappedByteBuffer} can not map more than 2 GB, a file is mapped in segments.
+ * Files of any size can be accessed using the long based methods {@link #longLength()}, {@link #byteAt(long)}
+ * and {@link #subSequence(long, long)}. The int based {@link ByteSequence} methods can be used for sequences
+ * of up to {@link Integer#MAX_VALUE} bytes, e.g. for a {@link #subSequence(long, long) window} of a larger file.
+ * <p>
+ * A {@link #subSequence(long, long) subsequence} shares the mapped segments and thus does not copy any bytes.
+ * The mapping is kept until the {@link MappedByteSequence} and all its subsequences are garbage collected.
+ * A {@link MappedByteSequence} is not thread-safe.
+ *
+ * <pre>
+ * MappedByteSequence content = MappedByteSequence.map(Paths.get("artifact.bin"));
+ * ByteSequence header = content.subSequence(0, 512);
+ * </pre>
+ *
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+public class MappedByteSequence implements ByteSequence {
+
+    /**
+     * The default segment size is 1 GB.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 30;
+
+    /**
+     * Maps the content of the file using the {@link #DEFAULT_SEGMENT_SIZE}.
+     */
+    public static MappedByteSequence map(Path file) throws IOException {
+        return map(file, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Maps the content of the file in segments of the given size.
+     *
+     * @param segmentSize the size of each mapped segment. It must be a power of 2.
+     */
+    public static MappedByteSequence map(Path file, int segmentSize) throws IOException {
+        if (segmentSize <= 0 || Integer.bitCount(segmentSize) != 1) {
+            throw new IllegalArgumentException("segmentSize must be a power of 2");
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int segmentCount = (int) ((size + segmentSize - 1) / segmentSize);
+
+            ByteBuffer[] segments = new ByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long position = (long) i * segmentSize;
+                long segmentLength = Math.min(segmentSize, size - position);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, segmentLength);
+            }
+
+            return new MappedByteSequence(segments, Integer.numberOfTrailingZeros(segmentSize), 0, size);
+        }
+    }
+
+    private final ByteBuffer[] segments;
+    private final int segmentShift;
+    private final long segmentMask;
+
+    private final long offset;
+    private final long length;
+
+    private MappedByteSequence(ByteBuffer[] segments, int segmentShift, long offset, long length) {
+        this.segments = segments;
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1L << segmentShift) - 1;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * @return the number of bytes of this sequence.
+     */
+    public long longLength() {
+        return length;
+    }
+
+    /**
+     * @throws IllegalStateException if this sequence is longer than {@link Integer#MAX_VALUE} bytes.
+     *                               Use {@link #longLength()} instead.
+     */
+    @Override
+    public int length() {
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalStateException("The sequence length " + length + " exceeds " + Integer.MAX_VALUE +
+                    ". Use longLength() instead.");
+        }
+        return (int) length;
+    }
+
+    @Override
+    public byte byteAt(int index) {
+        return byteAt((long) index);
+    }
+
+    public byte byteAt(long index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        }
+
+        long position = offset + index;
+        return segments[(int) (position >>> segmentShift)].get((int) (position & segmentMask));
+    }
+
+    /**
+     * Copies bytes of this sequence to the destination array. The bytes might span multiple segments.
+     *
+     * @param index the index of the first byte to copy.
+     */
+    public void copyTo(long index, byte[] dst, int dstOffset, int count) {
+        if (index < 0 || count < 0 || index > length - count) {
+            throw new IndexOutOfBoundsException("index " + index + ", count " + count + ", length " + length);
+        }
+        if (dstOffset < 0 || dstOffset > dst.length - count) {
+            throw new IndexOutOfBoundsException("dstOffset " + dstOffset + ", count " + count + ", dst.length " + dst.length);
+        }
+
+        long position = offset + index;
+        while (count > 0) {
+            ByteBuffer segment = segments[(int) (position >>> segmentShift)].duplicate();
+            int segmentPosition = (int) (position & segmentMask);
+            int segmentCount = Math.min(count, segment.limit() - segmentPosition);
+
+            segment.position(segmentPosition);
+            segment.get(dst, dstOffset, segmentCount);
+
+            position += segmentCount;
+            dstOffset += segmentCount;
+            count -= segmentCount;
+        }
+    }
+
+    @Override
+    public MappedByteSequence subSequence(int start, int end) {
+        return subSequence((long) start, (long) end);
+    }
+
+    /**
+     * Returns a subsequence that shares the mapped segments of this sequence.
+     *
+     * @param start the start index, inclusive.
+     * @param end   the end index, exclusive.
+     */
+    public MappedByteSequence subSequence(long start, long end) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+        }
+        return new MappedByteSequence(segments, segmentShift, offset + start, end - start);
+    }
+}
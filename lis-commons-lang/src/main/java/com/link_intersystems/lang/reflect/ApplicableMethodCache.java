@@ -0,0 +1,158 @@
+/**
+ * Copyright 2011 Link Intersystems GmbH <rene.link@link-intersystems.com>
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.link_intersystems.lang.reflect;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches the result of an applicable method resolution of a {@link Class2} by the method name,
+ * the {@link AccessType}s and the invocation parameter types. Resolutions that did not find any
+ * applicable method are cached as well.
+ * <p>
+ * Resolutions that are based on invocation argument objects are cached by the argument's classes.
+ * A <code>null</code> argument is recorded as a <code>null</code> parameter type, because its
+ * applicability only depends on the candidate method's parameter type.
+ * <p>
+ * The cache lives as long as the {@link Class2}'s class. A resolution is only cached if all its parameter types
+ * are visible from the class's class loader, i.e. are loaded by it, one of its parents or the bootstrap class
+ * loader. Other resolutions are not cached, because the cache would otherwise prevent the garbage collection
+ * of the parameter types' class loaders.
+ *
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ * @since 1.9.8;
+ */
+class ApplicableMethodCache {
+
+    private final ConcurrentMap<ResolutionKey, Optional<Method2>> resolutions = new ConcurrentHashMap<>();
+    private final ClassLoader classLoader;
+
+    /**
+     * @param classLoader the class loader of the class whose resolutions are cached or <code>null</code>
+     *                    for the bootstrap class loader.
+     */
+    ApplicableMethodCache(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    Method2 getByParameterTypes(String name, AccessType[] accessTypes, Class<?>[] paramTypes, boolean declaredOnly, Supplier<Method2> resolver) {
+        if (!isVisible(paramTypes)) {
+            return resolver.get();
+        }
+        ResolutionKey key = new ResolutionKey(name, accessTypes.clone(), paramTypes.clone(), false, declaredOnly);
+        return get(key, resolver);
+    }
+
+    Method2 getByArguments(String name, AccessType[] accessTypes, Object[] args, boolean declaredOnly, Supplier<Method2> resolver) {
+        Class<?>[] argTypes = new Class<?>[args.length];
+        for (int i = 0; i < args.length; i++) {
+            Object arg = args[i];
+            if (arg != null) {
+                argTypes[i] = arg.getClass();
+            }
+        }
+        if (!isVisible(argTypes)) {
+            return resolver.get();
+        }
+        ResolutionKey key = new ResolutionKey(name, accessTypes.clone(), argTypes, true, declaredOnly);
+        return get(key, resolver);
+    }
+
+    private boolean isVisible(Class<?>[] types) {
+        for (Class<?> type : types) {
+            if (type != null && !isVisible(type.getClassLoader())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isVisible(ClassLoader typeClassLoader) {
+        if (typeClassLoader == null) {
+            return true;
+        }
+        for (ClassLoader loader = classLoader; loader != null; loader = loader.getParent()) {
+            if (loader == typeClassLoader) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Method2 get(ResolutionKey key, Supplier<Method2> resolver) {
+        Optional<Method2> resolution = resolutions.get(key);
+        if (resolution == null) {
+            /*
+             * The resolution is not done in computeIfAbsent, because it might
+             * recursively use this cache.
+             */
+            resolution = Optional.ofNullable(resolver.get());
+            Optional<Method2> concurrentResolution = resolutions.putIfAbsent(key, resolution);
+            if (concurrentResolution != null) {
+                resolution = concurrentResolution;
+            }
+        }
+        return resolution.orElse(null);
+    }
+
+    private static class ResolutionKey {
+
+        private final String name;
+        private final AccessType[] accessTypes;
+        private final Class<?>[] paramTypes;
+        private final boolean byArguments;
+        private final boolean declaredOnly;
+        private final int hashCode;
+
+        ResolutionKey(String name, AccessType[] accessTypes, Class<?>[] paramTypes, boolean byArguments, boolean declaredOnly) {
+            this.name = name;
+            this.accessTypes = accessTypes;
+            this.paramTypes = paramTypes;
+            this.byArguments = byArguments;
+            this.declaredOnly = declaredOnly;
+
+            int result = name == null ? 0 : name.hashCode();
+            result = 31 * result + Arrays.hashCode(accessTypes);
+            result = 31 * result + Arrays.hashCode(paramTypes);
+            result = 31 * result + (byArguments ? 1 : 0);
+            result = 31 * result + (declaredOnly ? 1 : 0);
+            this.hashCode = result;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (obj == null || getClass() != obj.getClass())
+                return false;
+            ResolutionKey other = (ResolutionKey) obj;
+            return hashCode == other.hashCode
+                    && byArguments == other.byArguments
+                    && declaredOnly == other.declaredOnly
+                    && (name == null ? other.name == null : name.equals(other.name))
+                    && Arrays.equals(accessTypes, other.accessTypes)
+                    && Arrays.equals(paramTypes, other.paramTypes);
+        }
+    }
+}
@@ -24,6 +24,7 @@ import com.link_intersystems.lang.reflect.PotentiallyApplicableMemberStrategy.Po
 import java.io.Serializable;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
@@ -101,20 +102,29 @@ public class Class2<T> implements Serializable {
 
     private Class2<T[]> arrayType2;
 
-    private List<Method2> declaredMethods;
+    private volatile List<Method2> declaredMethods;
 
-    private List<Constructor2<T>> declaredConstructors;
+    private volatile List<Constructor2<T>> declaredConstructors;
 
     /**
      * internal cache for type variables. I expect that a "normal" generic type
      * will not have more than 3 type variables. Therefore I use the Flat3Map
      * that can grow but is very fast for up to 3 entries.
      */
-    private transient Map<String, TypeVariable<?>> typeVariableCache;
+    private transient volatile Map<String, TypeVariable<?>> typeVariableCache;
 
     private static final Object TYPE_VARIABLE_CACHE_SYNCHRONIZATION = new Object();
 
-    private static final Map<Class<?>, Class2<?>> CLASS_TO_CLASS2 = new HashMap<>();
+    /**
+     * {@link Class2} instances are attached to their {@link Class} so that lookups are lock-free and a
+     * {@link Class2} does not prevent its class (and the class's {@link ClassLoader}) from being unloaded.
+     */
+    private static final ClassValue<Class2<?>> CLASS_TO_CLASS2 = new ClassValue<Class2<?>>() {
+        @Override
+        protected Class2<?> computeValue(Class<?> type) {
+            return new Class2<>(type);
+        }
+    };
 
     private static final PotentiallyApplicableMemberStrategy POTENTIALLY_APPLICABLE_STRATEGY = new PotentiallyApplicableMemberStrategy();
 
@@ -122,6 +132,8 @@ public class Class2<T> implements Serializable {
 
     private ArrayType<T> arrayType;
 
+    private transient volatile ApplicableMethodCache applicableMethodCache;
+
     @SuppressWarnings("unchecked")
     private static <RT extends Member2<?>> ChooseMostSpecificMemberStrategy<RT> getChooseMostSpecificStrategy() {
         return (ChooseMostSpecificMemberStrategy<RT>) CHOOSE_POTENTIAL_APPLICABLE;
@@ -165,12 +177,7 @@ public class Class2<T> implements Serializable {
     @SuppressWarnings("unchecked")
     public static <T> Class2<T> get(Class<T> clazz) {
         requireNonNull(clazz);
-        Class2<T> class2 = (Class2<T>) CLASS_TO_CLASS2.get(clazz);
-        if (class2 == null) {
-            class2 = new Class2<>(clazz);
-            CLASS_TO_CLASS2.put(clazz, class2);
-        }
-        return class2;
+        return (Class2<T>) CLASS_TO_CLASS2.get(clazz);
     }
 
     /**
@@ -446,6 +453,12 @@ public class Class2<T> implements Serializable {
      */
     public Method2 getApplicableMethod(String name, AccessType[] accessTypes,
                                        Class<?>... paramTypes) {
+        return getApplicableMethodCache().getByParameterTypes(name, accessTypes, paramTypes, false,
+                () -> resolveApplicableMethod(name, accessTypes, paramTypes));
+    }
+
+    private Method2 resolveApplicableMethod(String name, AccessType[] accessTypes,
+                                            Class<?>... paramTypes) {
         Method2 applicableMethod = getDeclaredApplicableMethod(name,
                 accessTypes, paramTypes);
         if (applicableMethod == null) {
@@ -491,6 +504,12 @@ public class Class2<T> implements Serializable {
      */
     public Method2 getDeclaredApplicableMethod(String name,
                                                AccessType[] accessTypes, Class<?>... paramTypes) {
+        return getApplicableMethodCache().getByParameterTypes(name, accessTypes, paramTypes, true,
+                () -> resolveDeclaredApplicableMethod(name, accessTypes, paramTypes));
+    }
+
+    private Method2 resolveDeclaredApplicableMethod(String name,
+                                                    AccessType[] accessTypes, Class<?>... paramTypes) {
         List<Method2> declaredMethods = getDeclaredMethods();
         PotentionallyApplicableMethodCriteria potentionallyApplicableMethodCriteria = new PotentionallyApplicableMethodCriteria(
                 name, accessTypes, paramTypes);
@@ -514,6 +533,12 @@ public class Class2<T> implements Serializable {
      */
     public Method2 getApplicableMethod(String name, AccessType[] accessTypes,
                                        Object... args) {
+        return getApplicableMethodCache().getByArguments(name, accessTypes, args, false,
+                () -> resolveApplicableMethod(name, accessTypes, args));
+    }
+
+    private Method2 resolveApplicableMethod(String name, AccessType[] accessTypes,
+                                            Object... args) {
         Method2 applicableMethod = getDeclaredApplicableMethod(name,
                 accessTypes, args);
         if (applicableMethod == null) {
@@ -540,6 +565,12 @@ public class Class2<T> implements Serializable {
      */
     public Method2 getDeclaredApplicableMethod(String name,
                                                AccessType[] accessTypes, Object... args) {
+        return getApplicableMethodCache().getByArguments(name, accessTypes, args, true,
+                () -> resolveDeclaredApplicableMethod(name, accessTypes, args));
+    }
+
+    private Method2 resolveDeclaredApplicableMethod(String name,
+                                                    AccessType[] accessTypes, Object... args) {
         List<Method2> declaredMethods = getDeclaredMethods();
         PotentionallyApplicableMethodCriteria potentionallyApplicableMethodCriteria = new PotentionallyApplicableMethodCriteria(
                 name, accessTypes, args);
@@ -549,6 +580,20 @@ public class Class2<T> implements Serializable {
         return chooseApplicableMember(potentiallyApplicable);
     }
 
+    private ApplicableMethodCache getApplicableMethodCache() {
+        ApplicableMethodCache applicableMethodCache = this.applicableMethodCache;
+        if (applicableMethodCache == null) {
+            synchronized (this) {
+                applicableMethodCache = this.applicableMethodCache;
+                if (applicableMethodCache == null) {
+                    applicableMethodCache = new ApplicableMethodCache(getType().getClassLoader());
+                    this.applicableMethodCache = applicableMethodCache;
+                }
+            }
+        }
+        return applicableMethodCache;
+    }
+
     /**
      * Convenience method to get a {@link Class2} instance of this class's
      * superclass.
@@ -646,7 +691,7 @@ public class Class2<T> implements Serializable {
     private Map<String, TypeVariable<?>> getTypeVariableCache() {
         synchronized (TYPE_VARIABLE_CACHE_SYNCHRONIZATION) {
             if (typeVariableCache == null) {
-                typeVariableCache = new HashMap<>();
+                typeVariableCache = new ConcurrentHashMap<>();
             }
             return typeVariableCache;
         }
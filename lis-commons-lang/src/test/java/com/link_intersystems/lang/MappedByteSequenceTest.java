@@ -0,0 +1,106 @@
+package com.link_intersystems.lang;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+class MappedByteSequenceTest {
+
+    private Path file;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp(@TempDir Path tmpDir) throws IOException {
+        content = new byte[100];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        file = tmpDir.resolve("content.bin");
+        Files.write(file, content);
+    }
+
+    @Test
+    void byteAt() throws IOException {
+        MappedByteSequence byteSequence = MappedByteSequence.map(file);
+
+        assertEquals(100, byteSequence.length());
+        assertEquals(100L, byteSequence.longLength());
+        for (int i = 0; i < content.length; i++) {
+            assertEquals(content[i], byteSequence.byteAt(i));
+        }
+    }
+
+    @Test
+    void byteAtSegments() throws IOException {
+        MappedByteSequence byteSequence = MappedByteSequence.map(file, 8);
+
+        assertEquals(100, byteSequence.length());
+        for (int i = 0; i < content.length; i++) {
+            assertEquals(content[i], byteSequence.byteAt(i));
+        }
+    }
+
+    @Test
+    void byteAtOutOfBounds() throws IOException {
+        MappedByteSequence byteSequence = MappedByteSequence.map(file, 8);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> byteSequence.byteAt(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> byteSequence.byteAt(100));
+    }
+
+    @Test
+    void subSequence() throws IOException {
+        MappedByteSequence byteSequence = MappedByteSequence.map(file, 8);
+
+        MappedByteSequence subSequence = byteSequence.subSequence(5, 50);
+        assertEquals(45, subSequence.length());
+        assertEquals(5, subSequence.byteAt(0));
+        assertEquals(49, subSequence.byteAt(44));
+        assertThrows(IndexOutOfBoundsException.class, () -> subSequence.byteAt(45));
+
+        ByteSequence subSubSequence = subSequence.subSequence(10, 20);
+        assertEquals(10, subSubSequence.length());
+        assertEquals(15, subSubSequence.byteAt(0));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> byteSequence.subSequence(50, 101));
+        assertThrows(IndexOutOfBoundsException.class, () -> byteSequence.subSequence(50, 49));
+    }
+
+    @Test
+    void copyTo() throws IOException {
+        MappedByteSequence byteSequence = MappedByteSequence.map(file, 8);
+
+        byte[] dst = new byte[30];
+        byteSequence.subSequence(3, 90).copyTo(2, dst, 5, 25);
+
+        for (int i = 0; i < 25; i++) {
+            assertEquals(content[5 + i], dst[5 + i]);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> byteSequence.copyTo(90, dst, 0, 11));
+    }
+
+    @Test
+    void emptyFile(@TempDir Path tmpDir) throws IOException {
+        Path emptyFile = Files.createFile(tmpDir.resolve("empty.bin"));
+
+        MappedByteSequence byteSequence = MappedByteSequence.map(emptyFile);
+
+        assertEquals(0, byteSequence.length());
+        assertEquals(0, byteSequence.subSequence(0, 0).length());
+    }
+
+    @Test
+    void illegalSegmentSize() {
+        assertThrows(IllegalArgumentException.class, () -> MappedByteSequence.map(file, 3));
+        assertThrows(IllegalArgumentException.class, () -> MappedByteSequence.map(file, 0));
+    }
+}
@@ -18,6 +18,11 @@ package com.link_intersystems.lang.reflect;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Map;
@@ -67,6 +72,92 @@ class Class2ApplicableTest {
         Assertions.assertNotNull(applicableMethod);
     }
 
+    @Test
+    void applicableMethodResolutionIsCached() {
+        Class2<?> classInfo = Class2.get(Class2ApplicableTestClass.class);
+        Method2 applicableMethod = classInfo.getApplicableMethod("method",
+                Object.class, String.class, int.class);
+        Assertions.assertSame(applicableMethod, classInfo.getApplicableMethod("method",
+                Object.class, String.class, int.class));
+        Assertions.assertSame(applicableMethod, classInfo.getApplicableMethod("method",
+                "An object", "A string", 44));
+
+        Assertions.assertNull(classInfo.getApplicableMethod("noSuchMethod", Object.class));
+        Assertions.assertNull(classInfo.getApplicableMethod("noSuchMethod", Object.class));
+    }
+
+    @Test
+    void applicableMethodCacheDoesNotPreventClassLoaderCollection() throws Exception {
+        WeakReference<ClassLoader> classLoaderRef = getApplicableMethodInOwnClassLoader();
+
+        for (int i = 0; i < 50 && classLoaderRef.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        Assertions.assertNull(classLoaderRef.get());
+    }
+
+    private WeakReference<ClassLoader> getApplicableMethodInOwnClassLoader() throws Exception {
+        ClassLoader classLoader = new ChildFirstClassLoader(LoaderLocalArgument.class);
+        Object argument = classLoader.loadClass(LoaderLocalArgument.class.getName()).getDeclaredConstructor().newInstance();
+        Assertions.assertSame(classLoader, argument.getClass().getClassLoader());
+
+        Class2<String> class2 = Class2.get(String.class);
+        Method2 applicableMethod = class2.getApplicableMethod("valueOf", argument);
+        Assertions.assertEquals(String.class.getDeclaredMethod("valueOf", Object.class), applicableMethod.getMember());
+        Assertions.assertEquals(applicableMethod, class2.getApplicableMethod("valueOf", argument));
+
+        return new WeakReference<>(classLoader);
+    }
+
+    public static class LoaderLocalArgument {
+    }
+
+    /**
+     * Loads the given class itself instead of delegating to its parent.
+     */
+    private static class ChildFirstClassLoader extends ClassLoader {
+
+        private final Class<?> type;
+
+        ChildFirstClassLoader(Class<?> type) {
+            super(Class2ApplicableTest.class.getClassLoader());
+            this.type = type;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!type.getName().equals(name)) {
+                return super.loadClass(name, resolve);
+            }
+
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loadedClass = findLoadedClass(name);
+                if (loadedClass == null) {
+                    String resourceName = name.replace('.', '/') + ".class";
+                    try (InputStream in = getParent().getResourceAsStream(resourceName)) {
+                        byte[] bytes = readAll(in);
+                        loadedClass = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return loadedClass;
+            }
+        }
+
+        private static byte[] readAll(InputStream in) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
     @Test
     void selectMostSpecific() throws SecurityException,
             NoSuchMethodException {
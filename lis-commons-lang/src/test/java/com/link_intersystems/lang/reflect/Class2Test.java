@@ -23,6 +23,10 @@ import org.junit.jupiter.api.Test;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -48,6 +52,24 @@ class Class2Test {
         assertSame(class2, class2ByName);
     }
 
+    @Test
+    void getConcurrently() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Class2<?>>> lookups = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                lookups.add(() -> Class2.get(GenericSubWithInterface.class));
+            }
+
+            Class2<?> expected = Class2.get(GenericSubWithInterface.class);
+            for (Future<Class2<?>> lookup : executorService.invokeAll(lookups)) {
+                assertSame(expected, lookup.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
     @Test
     void getNonExistentTypeVariable() {
         Class2<?> genericSubClass = Class2.get(GenericClass_Types_D_C_Extends_GenericClass.class);
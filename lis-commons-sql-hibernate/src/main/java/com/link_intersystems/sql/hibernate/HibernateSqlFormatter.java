@@ -4,57 +4,135 @@ import com.link_intersystems.sql.format.SqlFormatter;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.internal.Formatter;
 
-import java.io.*;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
+ * Formats sql statements using hibernate's {@link FormatStyle#BASIC} formatter and removes the indentation
+ * that hibernate adds to all lines.
+ * <p>
+ * The most recently formatted statements are cached, so that formatting the same sql again, e.g. when
+ * each execution of a query is logged, does not format it again.
+ *
  * @author René Link {@literal <rene.link@link-intersystems.com>}
  */
 public class HibernateSqlFormatter implements SqlFormatter {
 
+    public static final int DEFAULT_CACHE_SIZE = 256;
+
     private final Formatter formatter;
+    private final String lineSeparator = System.lineSeparator();
+
+    private int cacheSize = DEFAULT_CACHE_SIZE;
+    private final Map<String, String> formattedSqlCache = new LinkedHashMap<String, String>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > cacheSize;
+        }
+    };
 
     public HibernateSqlFormatter() {
         formatter = FormatStyle.BASIC.getFormatter();
     }
 
+    /**
+     * Sets the maximum number of formatted statements that are cached. The least recently used statements are
+     * removed first. A cache size of 0 disables the cache. Defaults to {@value #DEFAULT_CACHE_SIZE}.
+     */
+    public void setCacheSize(int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("cacheSize must be 0 or greater");
+        }
+
+        synchronized (formattedSqlCache) {
+            this.cacheSize = cacheSize;
+
+            Iterator<String> eldestKeys = formattedSqlCache.keySet().iterator();
+            while (formattedSqlCache.size() > cacheSize) {
+                eldestKeys.next();
+                eldestKeys.remove();
+            }
+        }
+    }
+
+    public int getCacheSize() {
+        synchronized (formattedSqlCache) {
+            return cacheSize;
+        }
+    }
+
     @Override
     public String format(String sql) {
-        String formatted = formatter.format(sql);
-
-        BufferedReader reader = new BufferedReader(new StringReader(formatted));
-        StringWriter sw = new StringWriter();
-        PrintWriter pw = new PrintWriter(sw);
-
-        String line;
-        String mainIndention = null;
-        try {
-            while ((line = reader.readLine()) != null) {
-                if (line.isEmpty()) {
-                    continue;
-                }
-                if (mainIndention == null) {
-                    mainIndention = "";
-                    for (int i = 0; i < line.length(); i++) {
-                        if (line.charAt(i) != ' ') {
-                            break;
-                        }
-                        mainIndention += " ";
-                    }
+        String formattedSql;
+        synchronized (formattedSqlCache) {
+            formattedSql = formattedSqlCache.get(sql);
+        }
+
+        if (formattedSql == null) {
+            formattedSql = removeMainIndentation(formatter.format(sql));
+
+            synchronized (formattedSqlCache) {
+                if (cacheSize > 0) {
+                    formattedSqlCache.put(sql, formattedSql);
                 }
+            }
+        }
+
+        return formattedSql;
+    }
+
+    /**
+     * Removes the indentation of the first line from all lines and skips empty lines in one pass.
+     */
+    private String removeMainIndentation(String formatted) {
+        int length = formatted.length();
+        StringBuilder sb = new StringBuilder(length);
+
+        int mainIndentation = -1;
+        int lineStart = 0;
+
+        while (lineStart < length) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && !isLineTerminator(formatted.charAt(lineEnd))) {
+                lineEnd++;
+            }
 
-                if (line.startsWith(mainIndention)) {
-                    line = line.substring(mainIndention.length());
+            if (lineEnd > lineStart) {
+                int indentation = 0;
+                while (lineStart + indentation < lineEnd && formatted.charAt(lineStart + indentation) == ' ') {
+                    indentation++;
                 }
+                if (mainIndentation == -1) {
+                    mainIndentation = indentation;
+                }
+
+                int contentStart = indentation >= mainIndentation ? lineStart + mainIndentation : lineStart;
+                sb.append(formatted, contentStart, lineEnd).append(lineSeparator);
+            }
 
-                pw.println(line);
+            lineStart = lineEnd + 1;
+            if (lineEnd + 1 < length && formatted.charAt(lineEnd) == '\r' && formatted.charAt(lineEnd + 1) == '\n') {
+                lineStart++;
             }
-        } catch (IOException e) {
-            throw new RuntimeException(e);
         }
 
-        pw.flush();
-        pw.close();
+        return trim(sb);
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r';
+    }
 
-        return sw.toString().trim();
+    private static String trim(StringBuilder sb) {
+        int start = 0;
+        int end = sb.length();
+        while (start < end && sb.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && sb.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return sb.substring(start, end);
     }
 }
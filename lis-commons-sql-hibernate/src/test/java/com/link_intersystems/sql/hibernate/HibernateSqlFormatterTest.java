@@ -2,7 +2,7 @@ package com.link_intersystems.sql.hibernate;
 
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author René Link {@literal <rene.link@link-intersystems.com>}
@@ -24,4 +24,34 @@ class HibernateSqlFormatterTest {
                 "values" + newLine +
                 "    (1, 'PENELOPE', 'GUINESS', '2006-02-15 04:34:33')", formattedSql);
     }
-}
\ No newline at end of file
+
+    @Test
+    void formattedSqlCached() {
+        HibernateSqlFormatter sqlFormatter = new HibernateSqlFormatter();
+        String sql = "select * from actor where actor_id = 1";
+
+        String formattedSql = sqlFormatter.format(sql);
+
+        assertSame(formattedSql, sqlFormatter.format(sql));
+    }
+
+    @Test
+    void cacheDisabled() {
+        HibernateSqlFormatter sqlFormatter = new HibernateSqlFormatter();
+        sqlFormatter.setCacheSize(0);
+        String sql = "select * from actor where actor_id = 1";
+
+        String formattedSql = sqlFormatter.format(sql);
+        String formattedAgain = sqlFormatter.format(sql);
+
+        assertEquals(formattedSql, formattedAgain);
+        assertNotSame(formattedSql, formattedAgain);
+    }
+
+    @Test
+    void illegalCacheSize() {
+        HibernateSqlFormatter sqlFormatter = new HibernateSqlFormatter();
+
+        assertThrows(IllegalArgumentException.class, () -> sqlFormatter.setCacheSize(-1));
+    }
+}
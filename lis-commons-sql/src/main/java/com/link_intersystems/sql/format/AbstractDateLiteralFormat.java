@@ -1,39 +1,124 @@
 package com.link_intersystems.sql.format;
 
+import java.nio.CharBuffer;
 import java.text.MessageFormat;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.time.ZoneOffset;
+import java.time.chrono.IsoChronology;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DecimalStyle;
+import java.time.zone.ZoneRules;
 import java.util.Objects;
 import java.util.function.Supplier;
 
 /**
+ * Formats date values as quoted literals using a {@link DateTimeFormatter}.
+ * <p>
+ * The {@link ZoneId} is resolved once, when the first value is formatted. Formatters for the patterns
+ * <code>yyyy-MM-dd</code> and <code>yyyy-MM-dd HH:mm:ss</code> are detected when the format is created and the
+ * values are then formatted without the {@link DateTimeFormatter}.
+ *
  * @author René Link {@literal <rene.link@link-intersystems.com>}
  */
 public abstract class AbstractDateLiteralFormat extends AbstractLiteralFormat {
 
-    private QuotedStringLiteralFormat stringLiteralFormat = new QuotedStringLiteralFormat();
+    private static final char QUOTE = '\'';
+
+    private static final int NO_FAST_PATH = 0;
+    private static final int ISO_DATE = 10;
+    private static final int ISO_DATE_TIME = 19;
+
+    private static final String ISO_DATE_DESCRIPTION = DateTimeFormatter.ofPattern("yyyy-MM-dd").toString();
+    private static final String ISO_DATE_TIME_DESCRIPTION = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").toString();
 
     private DateTimeFormatter dateTimeFormatter;
     private Supplier<ZoneId> zoneIdSupplier;
 
+    private final int fastPathLength;
+
+    private volatile ZoneRules zoneRules;
+    private volatile ZoneId zoneId;
 
     public AbstractDateLiteralFormat(DateTimeFormatter dateTimeFormatter, Supplier<ZoneId> zoneIdSupplier) {
         this.dateTimeFormatter = Objects.requireNonNull(dateTimeFormatter);
         this.zoneIdSupplier = Objects.requireNonNull(zoneIdSupplier);
+        this.fastPathLength = getFastPathLength(dateTimeFormatter);
+    }
+
+    private static int getFastPathLength(DateTimeFormatter dateTimeFormatter) {
+        boolean isoChronology = dateTimeFormatter.getChronology() == null
+                || IsoChronology.INSTANCE.equals(dateTimeFormatter.getChronology());
+        if (!isoChronology || !DecimalStyle.STANDARD.equals(dateTimeFormatter.getDecimalStyle())) {
+            return NO_FAST_PATH;
+        }
+
+        String description = dateTimeFormatter.toString();
+        if (ISO_DATE_DESCRIPTION.equals(description)) {
+            return ISO_DATE;
+        } else if (ISO_DATE_TIME_DESCRIPTION.equals(description)) {
+            return ISO_DATE_TIME;
+        }
+        return NO_FAST_PATH;
     }
 
     @Override
     public String doFormat(Object value) throws Exception {
+        StringBuilder sb = new StringBuilder(32);
+        doFormat(value, sb);
+        return sb.toString();
+    }
+
+    @Override
+    protected void doFormat(Object value, Appendable appendable) throws Exception {
         LocalDateTime localDateTime = toLocalDateTime(value);
-        String formattedDate = dateTimeFormatter.format(localDateTime);
-        return stringLiteralFormat.doFormat(formattedDate);
+        appendable.append(QUOTE);
+        if (!appendFastPath(localDateTime, appendable)) {
+            dateTimeFormatter.formatTo(localDateTime, appendable);
+        }
+        appendable.append(QUOTE);
+    }
+
+    private boolean appendFastPath(LocalDateTime localDateTime, Appendable appendable) throws Exception {
+        int year = localDateTime.getYear();
+        if (fastPathLength == NO_FAST_PATH || year < 1 || year > 9999) {
+            return false;
+        }
+
+        char[] chars = new char[fastPathLength];
+        putDigits(chars, 0, year, 4);
+        chars[4] = '-';
+        putDigits(chars, 5, localDateTime.getMonthValue(), 2);
+        chars[7] = '-';
+        putDigits(chars, 8, localDateTime.getDayOfMonth(), 2);
+
+        if (fastPathLength == ISO_DATE_TIME) {
+            chars[10] = ' ';
+            putDigits(chars, 11, localDateTime.getHour(), 2);
+            chars[13] = ':';
+            putDigits(chars, 14, localDateTime.getMinute(), 2);
+            chars[16] = ':';
+            putDigits(chars, 17, localDateTime.getSecond(), 2);
+        }
+
+        if (appendable instanceof StringBuilder) {
+            ((StringBuilder) appendable).append(chars);
+        } else {
+            appendable.append(CharBuffer.wrap(chars));
+        }
+        return true;
+    }
+
+    private static void putDigits(char[] chars, int offset, int value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
     }
 
     protected LocalDateTime toLocalDateTime(Object value) {
-        ZoneId zoneId = zoneIdSupplier.get();
+        ZoneId zoneId = getZoneId();
         Instant instant = toInstant(value, zoneId);
         if (instant == null) {
             String msg = MessageFormat.format("Value {0} can not be formatted as date," +
@@ -44,9 +129,18 @@ public abstract class AbstractDateLiteralFormat extends AbstractLiteralFormat {
             );
             throw new IllegalArgumentException(msg);
         }
-        ZonedDateTime zonedDateTime = instant.atZone(zoneId);
-        LocalDateTime localDateTime = zonedDateTime.toLocalDateTime();
-        return localDateTime;
+        ZoneOffset offset = zoneRules.getOffset(instant);
+        return LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(), offset);
+    }
+
+    private ZoneId getZoneId() {
+        ZoneId zoneId = this.zoneId;
+        if (zoneId == null) {
+            zoneId = Objects.requireNonNull(zoneIdSupplier.get());
+            zoneRules = zoneId.getRules();
+            this.zoneId = zoneId;
+        }
+        return zoneId;
     }
 
     protected abstract Instant toInstant(Object value, ZoneId zoneId);
@@ -13,5 +13,23 @@ public abstract class AbstractLiteralFormat implements LiteralFormat {
         return doFormat(value);
     }
 
+    @Override
+    public void format(Object value, Appendable appendable) throws Exception {
+        if (value == null) {
+            appendable.append(NULL_LITERAL);
+            return;
+        }
+
+        doFormat(value, appendable);
+    }
+
     protected abstract String doFormat(Object value) throws Exception;
+
+    /**
+     * Appends the literal of the non-null value. Subclasses should override this method if they can append the
+     * literal without creating an intermediate {@link String}.
+     */
+    protected void doFormat(Object value, Appendable appendable) throws Exception {
+        appendable.append(doFormat(value));
+    }
 }
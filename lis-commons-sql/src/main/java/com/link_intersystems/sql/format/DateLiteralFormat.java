@@ -31,7 +31,7 @@ public class DateLiteralFormat extends AbstractDateLiteralFormat {
             return sqlDate.toLocalDate().atStartOfDay(zoneId).toInstant();
         } else if (value instanceof Date) {
             Date date = (Date) value;
-            return date.toInstant().atZone(zoneId).toInstant();
+            return date.toInstant();
         }
         return null;
     }
@@ -63,4 +63,20 @@ public class DecimalLiteralFormat extends AbstractLiteralFormat {
         }
         return null;
     }
+
+    @Override
+    protected void doFormat(Object value, Appendable appendable) throws Exception {
+        if (appendable instanceof StringBuilder) {
+            StringBuilder sb = (StringBuilder) appendable;
+            if (value instanceof Double) {
+                sb.append(((Double) value).doubleValue());
+                return;
+            } else if (value instanceof Float) {
+                sb.append(((Float) value).floatValue());
+                return;
+            }
+        }
+
+        super.doFormat(value, appendable);
+    }
 }
@@ -31,4 +31,11 @@ public class DefaultTableLiteralFormat implements TableLiteralFormat {
         LiteralFormat literalFormat = columnLiteralFormats.getOrDefault(columnName, defaultLiteralFormat);
         return literalFormat.format(columnValue.getColumnValue());
     }
+
+    @Override
+    public void format(ColumnValue columnValue, Appendable appendable) throws Exception {
+        String columnName = columnValue.getColumnName();
+        LiteralFormat literalFormat = columnLiteralFormats.getOrDefault(columnName, defaultLiteralFormat);
+        literalFormat.format(columnValue.getColumnValue(), appendable);
+    }
 }
@@ -8,4 +8,13 @@ public interface LiteralFormat {
     public static final String NULL_LITERAL = "null";
 
     public String format(Object value) throws Exception;
+
+    /**
+     * Appends the literal of the value to the given {@link Appendable}. Implementations should override this method
+     * if they can append the literal without creating an intermediate {@link String}, e.g. when a lot of
+     * literals are appended to one {@link StringBuilder}.
+     */
+    public default void format(Object value, Appendable appendable) throws Exception {
+        appendable.append(format(value));
+    }
 }
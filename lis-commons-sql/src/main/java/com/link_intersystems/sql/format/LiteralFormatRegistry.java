@@ -6,4 +6,15 @@ package com.link_intersystems.sql.format;
 public interface LiteralFormatRegistry<T> {
 
     public LiteralFormat getLiteralFormat(T typeDescriptor);
+
+    /**
+     * Returns a number that changes whenever the {@link LiteralFormat} of a type descriptor changes, so that
+     * users that resolved literal formats before can detect that they must resolve them again.
+     * Registries that can be changed after their creation must override this method.
+     *
+     * @return the number of modifications of this registry. Defaults to 0 for registries that never change.
+     */
+    default long getModificationCount() {
+        return 0;
+    }
 }
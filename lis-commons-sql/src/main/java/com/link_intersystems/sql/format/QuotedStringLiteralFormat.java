@@ -3,6 +3,9 @@ package com.link_intersystems.sql.format;
 import static java.util.Objects.requireNonNull;
 
 /**
+ * Formats a value as a quoted string literal. Quotes within the value are escaped by doubling them,
+ * e.g. <code>it's</code> is formatted as <code>'it''s'</code>.
+ *
  * @author René Link {@literal <rene.link@link-intersystems.com>}
  */
 public class QuotedStringLiteralFormat extends AbstractLiteralFormat {
@@ -15,11 +18,63 @@ public class QuotedStringLiteralFormat extends AbstractLiteralFormat {
 
     public QuotedStringLiteralFormat(String quote) {
         this.quote = requireNonNull(quote);
+        if (quote.isEmpty()) {
+            throw new IllegalArgumentException("quote must not be empty");
+        }
     }
 
     @Override
-    protected String doFormat(Object value) {
-        String valueAsString = String.valueOf(value);
-        return quote + valueAsString + quote;
+    protected String doFormat(Object value) throws Exception {
+        CharSequence chars = toCharSequence(value);
+        StringBuilder sb = new StringBuilder(chars.length() + quote.length() * 2 + 8);
+        appendQuoted(chars, sb);
+        return sb.toString();
+    }
+
+    @Override
+    protected void doFormat(Object value, Appendable appendable) throws Exception {
+        appendQuoted(toCharSequence(value), appendable);
+    }
+
+    private CharSequence toCharSequence(Object value) {
+        return value instanceof CharSequence ? (CharSequence) value : String.valueOf(value);
+    }
+
+    /**
+     * Appends the quoted chars in one pass. Runs of chars without a quote are appended at once.
+     */
+    private void appendQuoted(CharSequence chars, Appendable appendable) throws Exception {
+        appendable.append(quote);
+
+        char quoteStart = quote.charAt(0);
+        int quoteLength = quote.length();
+        int length = chars.length();
+        int runStart = 0;
+
+        for (int i = 0; i < length; i++) {
+            if (chars.charAt(i) == quoteStart && isQuoteAt(chars, i)) {
+                int quoteEnd = i + quoteLength;
+                appendable.append(chars, runStart, quoteEnd);
+                appendable.append(quote);
+                runStart = quoteEnd;
+                i = quoteEnd - 1;
+            }
+        }
+
+        appendable.append(chars, runStart, length);
+        appendable.append(quote);
+    }
+
+    private boolean isQuoteAt(CharSequence chars, int index) {
+        int quoteLength = quote.length();
+        if (index + quoteLength > chars.length()) {
+            return false;
+        }
+        for (int i = 1; i < quoteLength; i++) {
+            if (chars.charAt(index + i) != quote.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 }
@@ -24,19 +24,20 @@ public class TimestampLiteralFormat extends AbstractDateLiteralFormat {
     }
 
     @Override
-    public String doFormat(Object value) throws Exception {
+    protected void doFormat(Object value, Appendable appendable) throws Exception {
         if (value instanceof java.sql.Date) {
-            return super.doFormat(new Date(((java.sql.Date) value).getTime()));
+            super.doFormat(new Date(((java.sql.Date) value).getTime()), appendable);
+            return;
         }
 
-        return super.doFormat(value);
+        super.doFormat(value, appendable);
     }
 
     @Override
     protected Instant toInstant(Object value, ZoneId zoneId) {
         if (value instanceof Date) {
             Date date = (Date) value;
-            return date.toInstant().atZone(zoneId).toInstant();
+            return date.toInstant();
         }
         return null;
     }
@@ -13,4 +13,13 @@ public class ToStringLiteralFormat extends AbstractLiteralFormat {
     public String doFormat(Object value) {
         return String.valueOf(value);
     }
+
+    @Override
+    protected void doFormat(Object value, Appendable appendable) throws Exception {
+        if (value instanceof CharSequence) {
+            appendable.append((CharSequence) value);
+        } else {
+            appendable.append(String.valueOf(value));
+        }
+    }
 }
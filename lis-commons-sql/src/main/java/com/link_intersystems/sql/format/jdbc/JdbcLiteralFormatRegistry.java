@@ -4,7 +4,9 @@ import com.link_intersystems.sql.format.*;
 
 import java.sql.Types;
 import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
@@ -15,6 +17,7 @@ public class JdbcLiteralFormatRegistry extends AbstractMap<Integer, LiteralForma
 
     private Map<Integer, LiteralFormat> literalFormatBySqlType = new HashMap<>();
     private LiteralFormat defaultLiteralFormat = ToStringLiteralFormat.INSTANCE;
+    private volatile long modificationCount;
 
     public JdbcLiteralFormatRegistry() {
         QuotedStringLiteralFormat literalFormat = new QuotedStringLiteralFormat();
@@ -33,11 +36,28 @@ public class JdbcLiteralFormatRegistry extends AbstractMap<Integer, LiteralForma
     }
 
     @Override
-    public LiteralFormat put(Integer key, LiteralFormat value) {
+    public long getModificationCount() {
+        return modificationCount;
+    }
 
+    @Override
+    public LiteralFormat put(Integer key, LiteralFormat value) {
+        modificationCount++;
         return literalFormatBySqlType.put(key, value);
     }
 
+    @Override
+    public LiteralFormat remove(Object key) {
+        modificationCount++;
+        return literalFormatBySqlType.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        modificationCount++;
+        literalFormatBySqlType.clear();
+    }
+
     public void put(LiteralFormat literalFormat, int... sqlTypes) {
         for (int sqlType : sqlTypes) {
             put(sqlType, literalFormat);
@@ -46,6 +66,48 @@ public class JdbcLiteralFormatRegistry extends AbstractMap<Integer, LiteralForma
 
     @Override
     public Set<Entry<Integer, LiteralFormat>> entrySet() {
-        return literalFormatBySqlType.entrySet();
+        return new EntrySet();
+    }
+
+    /**
+     * Counts the modifications that are made through the entries or the iterator.
+     */
+    private class EntrySet extends AbstractSet<Entry<Integer, LiteralFormat>> {
+
+        @Override
+        public Iterator<Entry<Integer, LiteralFormat>> iterator() {
+            Iterator<Entry<Integer, LiteralFormat>> entries = literalFormatBySqlType.entrySet().iterator();
+            return new Iterator<Entry<Integer, LiteralFormat>>() {
+
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public Entry<Integer, LiteralFormat> next() {
+                    Entry<Integer, LiteralFormat> entry = entries.next();
+                    return new SimpleEntry<Integer, LiteralFormat>(entry) {
+                        @Override
+                        public LiteralFormat setValue(LiteralFormat value) {
+                            super.setValue(value);
+                            modificationCount++;
+                            return entry.setValue(value);
+                        }
+                    };
+                }
+
+                @Override
+                public void remove() {
+                    entries.remove();
+                    modificationCount++;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return literalFormatBySqlType.size();
+        }
     }
 }
@@ -8,53 +8,118 @@ import com.link_intersystems.sql.statement.TableLiteralFormat;
 
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
 
 import static java.util.Objects.requireNonNull;
 
 /**
+ * A {@link TableLiteralFormat} that selects the {@link LiteralFormat} of a column by the column's sql type
+ * as described by a {@link ResultSetMetaData}.
+ * <p>
+ * The {@link LiteralFormat}s of all columns are resolved once, when the first value is formatted, so that
+ * formatting a value does not depend on the number of columns. The resolved formats are discarded when the
+ * {@link #setLiteralFormatRegistry(LiteralFormatRegistry) registry} or the
+ * {@link #setDefaultLiteralFormat(LiteralFormat) default format} is set, or when the registry's
+ * {@link LiteralFormatRegistry#getModificationCount() modification count} changed.
+ *
  * @author René Link {@literal <rene.link@link-intersystems.com>}
  */
 public class ResultSetMetaDataTableLiteralFormat implements TableLiteralFormat {
 
+    private static class ColumnFormatPlan {
+
+        private final Map<String, Integer> columnIndexes;
+        private final LiteralFormat[] literalFormats;
+        private final long registryModificationCount;
+
+        ColumnFormatPlan(Map<String, Integer> columnIndexes, LiteralFormat[] literalFormats, long registryModificationCount) {
+            this.columnIndexes = columnIndexes;
+            this.literalFormats = literalFormats;
+            this.registryModificationCount = registryModificationCount;
+        }
+    }
+
     private ResultSetMetaData resultSetMetaData;
 
     private LiteralFormatRegistry<Integer> literalFormatRegistry = new JdbcLiteralFormatRegistry();
     private LiteralFormat defaultLiteralFormat = ToStringLiteralFormat.INSTANCE;
 
+    private volatile ColumnFormatPlan columnFormatPlan;
+
     public ResultSetMetaDataTableLiteralFormat(ResultSetMetaData resultSetMetaData) {
         this.resultSetMetaData = requireNonNull(resultSetMetaData);
     }
 
     public void setLiteralFormatRegistry(LiteralFormatRegistry<Integer> sqlTypeLiteralFormatRegistry) {
         this.literalFormatRegistry = requireNonNull(sqlTypeLiteralFormatRegistry);
+        columnFormatPlan = null;
     }
 
     public void setDefaultLiteralFormat(LiteralFormat defaultLiteralFormat) {
         this.defaultLiteralFormat = requireNonNull(defaultLiteralFormat);
+        columnFormatPlan = null;
     }
 
     @Override
     public String format(ColumnValue columnValue) throws Exception {
-        String columnName = columnValue.getColumnName();
+        return getLiteralFormat(columnValue.getColumnName()).format(columnValue.getColumnValue());
+    }
+
+    @Override
+    public void format(ColumnValue columnValue, Appendable appendable) throws Exception {
+        getLiteralFormat(columnValue.getColumnName()).format(columnValue.getColumnValue(), appendable);
+    }
 
-        int columnType = getColumnType(columnName);
-        LiteralFormat literalFormat = literalFormatRegistry.getLiteralFormat(columnType);
-        if (literalFormat == null) {
-            literalFormat = defaultLiteralFormat;
+    private LiteralFormat getLiteralFormat(String columnName) throws SQLException {
+        ColumnFormatPlan plan = getColumnFormatPlan();
+        Integer columnIndex = plan.columnIndexes.get(columnName);
+        if (columnIndex == null) {
+            throw new IllegalArgumentException(columnName + " does not exists.");
         }
+        return plan.literalFormats[columnIndex];
+    }
 
-        return literalFormat.format(columnValue.getColumnValue());
+    /**
+     * Formats the value of the column at the given index without resolving the column by name.
+     *
+     * @param columnIndex the column index as used by the {@link ResultSetMetaData}, i.e. the first column is 1.
+     */
+    public String format(int columnIndex, Object value) throws Exception {
+        LiteralFormat[] literalFormats = getColumnFormatPlan().literalFormats;
+        if (columnIndex < 1 || columnIndex > literalFormats.length) {
+            throw new IllegalArgumentException("Invalid column index: " + columnIndex);
+        }
+        return literalFormats[columnIndex - 1].format(value);
     }
 
-    private int getColumnType(String columnName) throws SQLException {
+    private ColumnFormatPlan getColumnFormatPlan() throws SQLException {
+        ColumnFormatPlan plan = columnFormatPlan;
+        if (plan == null || plan.registryModificationCount != literalFormatRegistry.getModificationCount()) {
+            plan = createColumnFormatPlan();
+            columnFormatPlan = plan;
+        }
+        return plan;
+    }
+
+    private ColumnFormatPlan createColumnFormatPlan() throws SQLException {
+        long registryModificationCount = literalFormatRegistry.getModificationCount();
         int columnCount = resultSetMetaData.getColumnCount();
-        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
-            String currColumnName = resultSetMetaData.getColumnName(columnIndex);
-            if (currColumnName.equals(columnName)) {
-                return resultSetMetaData.getColumnType(columnIndex);
-            }
+
+        Map<String, Integer> columnIndexes = new HashMap<>(columnCount * 4 / 3 + 1);
+        LiteralFormat[] literalFormats = new LiteralFormat[columnCount];
+
+        for (int i = 0; i < columnCount; i++) {
+            int columnIndex = i + 1;
+            String columnName = resultSetMetaData.getColumnName(columnIndex);
+            // the first column wins if a result contains the same column name twice.
+            columnIndexes.putIfAbsent(columnName, i);
+
+            int columnType = resultSetMetaData.getColumnType(columnIndex);
+            LiteralFormat literalFormat = literalFormatRegistry.getLiteralFormat(columnType);
+            literalFormats[i] = literalFormat == null ? defaultLiteralFormat : literalFormat;
         }
 
-        throw new IllegalArgumentException(columnName + " does not exists.");
+        return new ColumnFormatPlan(columnIndexes, literalFormats, registryModificationCount);
     }
 }
@@ -0,0 +1,64 @@
+package com.link_intersystems.sql.io;
+
+import com.link_intersystems.util.concurrent.ProgressListener;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Adds statements to a jdbc batch and executes the batch whenever it contains batch size statements.
+ *
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+class BatchStatementCallback implements StatementCallback {
+
+    private final Connection connection;
+    private final Statement statement;
+    private final int batchSize;
+    private final boolean commitPerBatch;
+    private final ProgressListener progressListener;
+
+    private int batchedStatements;
+
+    /**
+     * @param batchSize the number of statements per batch or 0 if all statements should be
+     *                  executed in one batch.
+     */
+    BatchStatementCallback(Connection connection, Statement statement, int batchSize, boolean commitPerBatch, ProgressListener progressListener) {
+        this.connection = requireNonNull(connection);
+        this.statement = requireNonNull(statement);
+        this.batchSize = batchSize;
+        this.commitPerBatch = commitPerBatch;
+        this.progressListener = requireNonNull(progressListener);
+    }
+
+    @Override
+    public void doWithStatement(String sqlStatement) throws SQLException {
+        statement.addBatch(sqlStatement);
+        batchedStatements++;
+
+        if (batchedStatements == batchSize) {
+            executeBatch();
+        }
+    }
+
+    /**
+     * Executes the statements that have been added since the last batch execution.
+     */
+    void executeBatch() throws SQLException {
+        if (batchedStatements == 0) {
+            return;
+        }
+
+        statement.executeBatch();
+        if (commitPerBatch) {
+            connection.commit();
+        }
+
+        progressListener.worked(batchedStatements);
+        batchedStatements = 0;
+    }
+}
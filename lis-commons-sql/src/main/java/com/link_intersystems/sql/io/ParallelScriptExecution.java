@@ -0,0 +1,324 @@
+package com.link_intersystems.sql.io;
+
+import com.link_intersystems.util.concurrent.ProgressListener;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.sql.DataSource;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Executes the partitions of a {@link SqlScript} concurrently. The script is read by the calling thread, which
+ * dispatches each statement to the worker its partition is assigned to. A new partition is assigned to the worker
+ * that received the fewest statements so far. Each worker executes its statements in batches on its own
+ * {@link Connection}.
+ * <p>
+ * The workers' queues are bounded, so that the memory needed does not depend on the script size. If a worker fails,
+ * the reading of the script is aborted and the failure is rethrown after all workers have finished. If the calling
+ * thread is interrupted, the workers are interrupted and the execution returns after all workers have finished.
+ *
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+class ParallelScriptExecution {
+
+    private static final int QUEUE_CAPACITY = 1024;
+
+    /**
+     * Signals the end of the script to a worker. It is compared by identity.
+     */
+    private static final String END_OF_SCRIPT = new String("END_OF_SCRIPT");
+
+    private static class AbortedException extends SQLException {
+    }
+
+    private final DataSource dataSource;
+    private final StatementPartitioner partitioner;
+    private final int parallelism;
+    private final int batchSize;
+    private final boolean commitPerBatch;
+    private final ProgressListener progressListener;
+
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    ParallelScriptExecution(DataSource dataSource, StatementPartitioner partitioner, int parallelism,
+                            int batchSize, boolean commitPerBatch, ProgressListener progressListener) {
+        this.dataSource = requireNonNull(dataSource);
+        this.partitioner = requireNonNull(partitioner);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be 1 or greater");
+        }
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.commitPerBatch = commitPerBatch;
+        this.progressListener = new SynchronizedProgressListener(progressListener);
+    }
+
+    void execute(SqlScript sqlScript) throws SQLException {
+        List<Worker> workers = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            workers.add(new Worker());
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(parallelism);
+        progressListener.begin("Executing sql script", SqlScript.UNKNOWN_TOTAL_WORK);
+        boolean interrupted = false;
+        try {
+            List<Future<?>> futures = new ArrayList<>(parallelism);
+            for (Worker worker : workers) {
+                futures.add(executorService.submit(worker));
+            }
+
+            try {
+                dispatch(sqlScript, workers);
+            } catch (AbortedException e) {
+                // a worker failed. Its failure is thrown below.
+            } catch (SQLException | RuntimeException | Error e) {
+                failure.compareAndSet(null, e);
+            }
+
+            for (Worker worker : workers) {
+                worker.put(END_OF_SCRIPT);
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            interrupted = true;
+            failure.compareAndSet(null, new SQLException("Interrupted while executing the sql script", e));
+            for (Worker worker : workers) {
+                worker.abort();
+            }
+            executorService.shutdownNow();
+        } catch (ExecutionException e) {
+            // workers report their exceptions as failure and never throw them.
+            failure.compareAndSet(null, e.getCause());
+        } finally {
+            executorService.shutdown();
+            awaitTermination(executorService);
+            progressListener.done();
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        Throwable failure = this.failure.get();
+        if (failure instanceof SQLException) {
+            throw (SQLException) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new SQLException(failure);
+        }
+    }
+
+    private void dispatch(SqlScript sqlScript, List<Worker> workers) throws SQLException, InterruptedException {
+        Map<Object, Worker> workersByPartition = new HashMap<>();
+
+        try {
+            sqlScript.execute(sqlStatement -> {
+                if (failure.get() != null) {
+                    throw new AbortedException();
+                }
+
+                Object partition = partitioner.getPartition(sqlStatement);
+                Worker worker = workersByPartition.get(partition);
+                if (worker == null) {
+                    worker = getLeastLoadedWorker(workers);
+                    workersByPartition.put(partition, worker);
+                }
+
+                try {
+                    worker.put(sqlStatement);
+                } catch (InterruptedException e) {
+                    throw new SQLException(e);
+                }
+            });
+        } catch (SQLException e) {
+            if (e.getCause() instanceof InterruptedException) {
+                throw (InterruptedException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Waits until no worker uses its connection anymore, even if the calling thread is interrupted.
+     */
+    private static void awaitTermination(ExecutorService executorService) {
+        boolean interrupted = false;
+        while (!executorService.isTerminated()) {
+            try {
+                executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Worker getLeastLoadedWorker(List<Worker> workers) {
+        Worker leastLoadedWorker = workers.get(0);
+        for (Worker worker : workers) {
+            if (worker.dispatchedStatements < leastLoadedWorker.dispatchedStatements) {
+                leastLoadedWorker = worker;
+            }
+        }
+        return leastLoadedWorker;
+    }
+
+    private class Worker implements Runnable {
+
+        private final BlockingQueue<String> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+        /**
+         * Only accessed by the dispatching thread.
+         */
+        private long dispatchedStatements;
+
+        private boolean endOfScriptTaken;
+
+        void put(String sqlStatement) throws InterruptedException {
+            queue.put(sqlStatement);
+            dispatchedStatements++;
+        }
+
+        /**
+         * Discards the statements that have not been taken yet and signals the end of the script, so that the
+         * worker stops even if it does not notice an interrupt. Only the dispatching thread puts statements, thus
+         * the end of the script always fits into the cleared queue.
+         */
+        void abort() {
+            queue.clear();
+            queue.offer(END_OF_SCRIPT);
+        }
+
+        @Override
+        public void run() {
+            try {
+                executeStatements();
+            } catch (AbortedException e) {
+                // another worker failed.
+            } catch (InterruptedException e) {
+                failure.compareAndSet(null, e);
+                // keep the interrupt, so that the drain stops.
+                Thread.currentThread().interrupt();
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                if (!endOfScriptTaken) {
+                    drain();
+                }
+            }
+        }
+
+        private void executeStatements() throws SQLException, InterruptedException {
+            try (Connection connection = dataSource.getConnection()) {
+                boolean autoCommit = connection.getAutoCommit();
+                if (commitPerBatch && autoCommit) {
+                    connection.setAutoCommit(false);
+                }
+
+                try (Statement statement = connection.createStatement()) {
+                    BatchStatementCallback batchStatementCallback = new BatchStatementCallback(connection, statement,
+                            batchSize, commitPerBatch, progressListener);
+
+                    String sqlStatement;
+                    while ((sqlStatement = queue.take()) != END_OF_SCRIPT) {
+                        if (failure.get() != null) {
+                            throw new AbortedException();
+                        }
+                        batchStatementCallback.doWithStatement(sqlStatement);
+                    }
+                    endOfScriptTaken = true;
+
+                    if (failure.get() != null) {
+                        throw new AbortedException();
+                    }
+
+                    batchStatementCallback.executeBatch();
+                    if (!connection.getAutoCommit()) {
+                        connection.commit();
+                    }
+                } catch (SQLException | RuntimeException e) {
+                    rollback(connection, e);
+                    throw e;
+                } finally {
+                    if (commitPerBatch && autoCommit) {
+                        connection.setAutoCommit(true);
+                    }
+                }
+            }
+        }
+
+        private void rollback(Connection connection, Exception e) {
+            try {
+                if (!connection.getAutoCommit()) {
+                    connection.rollback();
+                }
+            } catch (SQLException rollbackException) {
+                e.addSuppressed(rollbackException);
+            }
+        }
+
+        /**
+         * Takes the remaining statements after a failure, so that the dispatching thread is not blocked. Stops if the
+         * worker is interrupted, because the execution has been cancelled then and no statements are dispatched
+         * anymore.
+         */
+        private void drain() {
+            try {
+                while (queue.take() != END_OF_SCRIPT) {
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static class SynchronizedProgressListener implements ProgressListener {
+
+        private final ProgressListener progressListener;
+
+        SynchronizedProgressListener(ProgressListener progressListener) {
+            this.progressListener = requireNonNull(progressListener);
+        }
+
+        @Override
+        public synchronized void begin(String name, int totalWork) {
+            progressListener.begin(name, totalWork);
+        }
+
+        @Override
+        public synchronized void worked(int worked) {
+            progressListener.worked(worked);
+        }
+
+        @Override
+        public synchronized void done() {
+            progressListener.done();
+        }
+    }
+}
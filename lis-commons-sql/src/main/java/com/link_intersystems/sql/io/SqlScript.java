@@ -1,5 +1,8 @@
 package com.link_intersystems.sql.io;
 
+import com.link_intersystems.util.concurrent.NullProgressListener;
+import com.link_intersystems.util.concurrent.ProgressListener;
+
 import java.io.IOException;
 import java.io.StringReader;
 import java.sql.Connection;
@@ -7,12 +10,40 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Objects;
 import java.util.function.Predicate;
+import javax.sql.DataSource;
+
+import static java.util.Objects.requireNonNull;
 
 /**
+ * A {@link SqlScript} executes the statements of a {@link ScriptResource}.
+ * <p>
+ * When executed on a {@link Connection} the statements are executed as jdbc batches. By default all statements
+ * are added to one batch. Large scripts should be executed in chunks using {@link #setBatchSize(int)}
+ * so that the driver only has to hold a bounded number of statements. If {@link #setCommitPerBatch(boolean)} is
+ * enabled each executed chunk of a connection in auto-commit mode is committed.
+ *
+ * <pre>
+ * SqlScript sqlScript = new SqlScript(URLScriptResource.fromFile(seedFile));
+ * sqlScript.setBatchSize(1000);
+ * sqlScript.setCommitPerBatch(true);
+ * sqlScript.setProgressListener(progressListener);
+ * sqlScript.execute(connection);
+ * </pre>
+ * <p>
+ * Scripts whose statements can be split into independent partitions, e.g. blocks of inserts into different
+ * tables, can be {@link #execute(DataSource, StatementPartitioner, int) executed in parallel} using multiple
+ * connections.
+ *
  * @author René Link {@literal <rene.link@link-intersystems.com>}
  */
 public class SqlScript {
 
+    /**
+     * The total work that is reported to a {@link ProgressListener}, because the number of
+     * statements is not known before the script is executed.
+     */
+    public static final int UNKNOWN_TOTAL_WORK = -1;
+
     public static SqlScript emptyScript() {
         return new SqlScript("") {
             @Override
@@ -22,6 +53,10 @@ public class SqlScript {
             @Override
             public void execute(Connection connection) throws SQLException {
             }
+
+            @Override
+            public void execute(DataSource dataSource, StatementPartitioner partitioner, int parallelism) throws SQLException {
+            }
         };
     }
 
@@ -29,6 +64,10 @@ public class SqlScript {
 
     private Predicate<String> statementFiler = s -> true;
 
+    private int batchSize;
+    private boolean commitPerBatch;
+    private ProgressListener progressListener = NullProgressListener.INSTANCE;
+
     public SqlScript(String script) {
         this(() -> new StringReader(script));
     }
@@ -41,6 +80,48 @@ public class SqlScript {
         this.statementFiler = statementFiler;
     }
 
+    /**
+     * Sets the maximum number of statements that are executed in one batch when this script is
+     * {@link #execute(Connection) executed on a connection}. A batch size of 0, the default, executes
+     * all statements in one batch.
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 0) {
+            throw new IllegalArgumentException("batchSize must be 0 or greater");
+        }
+        this.batchSize = batchSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * If enabled, each batch is committed after it has been executed. If a batch fails, it is rolled back, but
+     * previous batches stay committed. The connection's auto-commit mode is disabled while the script is executed
+     * and restored afterwards.
+     * <p>
+     * This setting only applies to connections in auto-commit mode. If a connection's auto-commit mode is already
+     * disabled, the statements are executed in the caller's transaction, which is neither committed nor rolled back.
+     */
+    public void setCommitPerBatch(boolean commitPerBatch) {
+        this.commitPerBatch = commitPerBatch;
+    }
+
+    public boolean isCommitPerBatch() {
+        return commitPerBatch;
+    }
+
+    /**
+     * Sets the {@link ProgressListener} that is informed about the number of statements that have been executed
+     * after each batch when this script is {@link #execute(Connection) executed on a connection}.
+     * Since the number of statements is not known up front, the listener's total work is
+     * {@link #UNKNOWN_TOTAL_WORK}.
+     */
+    public void setProgressListener(ProgressListener progressListener) {
+        this.progressListener = requireNonNull(progressListener);
+    }
+
     public void execute(StatementCallback statementCallback) throws SQLException {
         try (StatementReader statementReader = new StatementReader(scriptResource.open())) {
             statementReader.setStatementFilter(statementFiler);
@@ -55,13 +136,54 @@ public class SqlScript {
     }
 
     public void execute(Connection connection) throws SQLException {
-        try (Statement stmt = connection.createStatement()) {
-            execute(sqlStatement -> {
-                stmt.addBatch(sqlStatement);
-            });
+        if (!commitPerBatch || !connection.getAutoCommit()) {
+            executeBatches(connection, false);
+            return;
+        }
 
-            stmt.executeBatch();
+        connection.setAutoCommit(false);
+        try {
+            executeBatches(connection, true);
+        } catch (SQLException e) {
+            try {
+                connection.rollback();
+            } catch (SQLException rollbackException) {
+                e.addSuppressed(rollbackException);
+            }
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private void executeBatches(Connection connection, boolean commitPerBatch) throws SQLException {
+        progressListener.begin("Executing sql script", UNKNOWN_TOTAL_WORK);
+        try (Statement stmt = connection.createStatement()) {
+            BatchStatementCallback batchStatementCallback = new BatchStatementCallback(connection, stmt, batchSize, commitPerBatch, progressListener);
+            execute(batchStatementCallback);
+            batchStatementCallback.executeBatch();
+        } finally {
+            progressListener.done();
         }
     }
 
+    /**
+     * Executes the partitions of this script concurrently. Each of the parallelism workers uses its own
+     * {@link Connection} from the given {@link DataSource} and executes the statements of the partitions
+     * that are assigned to it in script order. Statements of different partitions might be executed in
+     * any order. The {@link #setBatchSize(int) batch size}, {@link #setCommitPerBatch(boolean) commit per batch}
+     * and {@link #setProgressListener(ProgressListener) progress listener} settings apply to each worker.
+     * <p>
+     * If a worker fails, the execution is aborted and the first failure is thrown after all workers have
+     * finished. Work that a worker has not committed yet is rolled back. Workers whose connections are not
+     * in auto-commit mode commit their work after they executed all statements of their partitions, unless
+     * another worker failed before.
+     *
+     * @param parallelism the number of workers and thus connections to use.
+     */
+    public void execute(DataSource dataSource, StatementPartitioner partitioner, int parallelism) throws SQLException {
+        ParallelScriptExecution parallelScriptExecution = new ParallelScriptExecution(dataSource, partitioner, parallelism,
+                batchSize, commitPerBatch, progressListener);
+        parallelScriptExecution.execute(this);
+    }
 }
@@ -0,0 +1,22 @@
+package com.link_intersystems.sql.io;
+
+/**
+ * Assigns the statements of a {@link SqlScript} to partitions that can be executed independent of each other.
+ * Statements of the same partition are executed in script order and on the same connection.
+ *
+ * <pre>
+ * // all inserts into the same table belong to one partition
+ * StatementPartitioner byTable = sql -&gt; sql.split(" ")[2];
+ * </pre>
+ *
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ * @see SqlScript#execute(javax.sql.DataSource, StatementPartitioner, int)
+ */
+public interface StatementPartitioner {
+
+    /**
+     * @return the key of the partition the statement belongs to. Statements with {@link Object#equals(Object) equal}
+     * keys belong to the same partition. A <code>null</code> key is a partition as well.
+     */
+    public Object getPartition(String sqlStatement);
+}
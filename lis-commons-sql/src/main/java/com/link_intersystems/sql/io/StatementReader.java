@@ -7,24 +7,96 @@ import java.util.Objects;
 import java.util.function.Predicate;
 
 /**
+ * Splits a sql script into statements that are terminated by a <code>;</code>.
+ * <p>
+ * The {@link StatementReader} reads the script in blocks of chars and tokenizes it with a state machine that is
+ * aware of
+ * <ul>
+ *     <li>string literals, e.g. <code>'a;b'</code> or <code>'it''s'</code></li>
+ *     <li>quoted identifiers, e.g. <code>"a;b"</code> or <code>`a;b`</code></li>
+ *     <li>dollar quoted strings, e.g. <code>$$ ... $$</code> or <code>$body$ ... $body$</code></li>
+ *     <li>line comments, e.g. <code>-- comment</code></li>
+ *     <li>block comments, e.g. <code>/* comment *&#47;</code></li>
+ * </ul>
+ * Thus a <code>;</code> that is part of a literal, an identifier or a comment does not terminate a statement.
+ * <p>
+ * Comments are removed, except for optimizer hints like <code>/*+ INDEX(a) *&#47;</code>. Outside of
+ * literals and identifiers consecutive whitespaces are replaced by a single space. Leading and trailing whitespaces
+ * of a statement are removed.
+ *
  * @author René Link {@literal <rene.link@link-intersystems.com>}
  */
 public class StatementReader implements Closeable {
 
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * The longest dollar quote tag, including the enclosing dollars, that is recognized.
+     */
+    private static final int MAX_DOLLAR_TAG_LENGTH = 64;
+
+    private static final byte PLAIN = 0;
+    private static final byte WHITESPACE = 1;
+    private static final byte SPECIAL = 2;
+
+    /**
+     * Classifies the ascii chars, so that the tokenizer can skip plain chars without further checks.
+     * Non ascii chars are always {@link #PLAIN}, except for whitespaces.
+     */
+    private static final byte[] CHAR_CLASSES = new byte[128];
+
+    static {
+        for (int c = 0; c < CHAR_CLASSES.length; c++) {
+            if (Character.isWhitespace(c)) {
+                CHAR_CLASSES[c] = WHITESPACE;
+            }
+        }
+        for (char c : new char[]{';', '\'', '"', '`', '-', '/', '$'}) {
+            CHAR_CLASSES[c] = SPECIAL;
+        }
+    }
+
     private Reader reader;
     private Predicate<String> statementFiler = s -> true;
+    private boolean backslashEscapes;
 
     private String nextStatement;
-    private int lookaheadChar = -1;
+
+    private final char[] buffer;
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+
+    private final StringBuilder statement = new StringBuilder(256);
+    private boolean pendingWhitespace;
 
     public StatementReader(Reader reader) {
+        this(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param bufferSize the number of chars that are read from the {@link Reader} at once.
+     */
+    public StatementReader(Reader reader, int bufferSize) {
         this.reader = Objects.requireNonNull(reader);
+        if (bufferSize < MAX_DOLLAR_TAG_LENGTH) {
+            throw new IllegalArgumentException("bufferSize must be at least " + MAX_DOLLAR_TAG_LENGTH);
+        }
+        this.buffer = new char[bufferSize];
     }
 
     public void setStatementFilter(Predicate<String> statementFiler) {
         this.statementFiler = statementFiler;
     }
 
+    /**
+     * If set to <code>true</code> a backslash escapes the next char within string literals, e.g.
+     * <code>'it\'s'</code>, like some databases do. Defaults to <code>false</code>.
+     */
+    public void setBackslashEscapes(boolean backslashEscapes) {
+        this.backslashEscapes = backslashEscapes;
+    }
+
     public boolean hasNext() throws IOException {
         if (nextStatement == null) {
             nextStatement = readNextStatement();
@@ -39,85 +111,282 @@ public class StatementReader implements Closeable {
     }
 
     private String readNextStatement() throws IOException {
-        StringBuilder sb = new StringBuilder(255);
+        String nextStatement;
+        do {
+            nextStatement = readStatement();
+        } while (nextStatement != null && !statementFiler.test(nextStatement));
+        return nextStatement;
+    }
+
+    private String readStatement() throws IOException {
+        statement.setLength(0);
+        pendingWhitespace = false;
+
+        while (ensureAvailable(1)) {
+            char c = buffer[position];
+            byte charClass = c < CHAR_CLASSES.length ? CHAR_CLASSES[c] : (Character.isWhitespace(c) ? WHITESPACE : PLAIN);
 
-        boolean comment = false;
-        int read = -1;
+            switch (charClass) {
+                case PLAIN:
+                    appendPlainChars();
+                    break;
+                case WHITESPACE:
+                    position++;
+                    pendingWhitespace = true;
+                    break;
+                default:
+                    if (c == ';') {
+                        position++;
+                        if (statement.length() > 0) {
+                            return statement.toString();
+                        }
+                        pendingWhitespace = false;
+                    } else {
+                        readSpecial(c);
+                    }
+            }
+        }
 
-        while ((read = read()) != -1) {
-            char c = (char) read;
+        if (statement.length() == 0) {
+            return null;
+        }
+        return statement.toString();
+    }
 
-            if (c == '\n') {
-                comment = false;
+    private void appendPlainChars() {
+        int start = position;
+        int end = position;
+        while (end < limit) {
+            char c = buffer[end];
+            if (c < CHAR_CLASSES.length ? CHAR_CLASSES[c] != PLAIN : Character.isWhitespace(c)) {
+                break;
             }
+            end++;
+        }
+        appendToken(buffer, start, end - start);
+        position = end;
+    }
 
-            if (Character.isWhitespace(c)) {
-                int lookahead = lookahead();
-                if (lookahead != -1) {
-                    if (Character.isWhitespace(lookahead)) {
-                        continue;
-                    }
+    private void readSpecial(char c) throws IOException {
+        switch (c) {
+            case '\'':
+                readQuoted('\'', backslashEscapes);
+                break;
+            case '"':
+            case '`':
+                readQuoted(c, false);
+                break;
+            case '-':
+                if (ensureAvailable(2) && buffer[position + 1] == '-') {
+                    skipLineComment();
+                } else {
+                    appendChar();
+                }
+                break;
+            case '/':
+                if (ensureAvailable(2) && buffer[position + 1] == '*') {
+                    readBlockComment();
+                } else {
+                    appendChar();
                 }
+                break;
+            case '$':
+                readDollar();
+                break;
+            default:
+                appendChar();
+        }
+    }
+
+    private void appendChar() {
+        appendToken(buffer, position, 1);
+        position++;
+    }
+
+    private void appendToken(char[] chars, int offset, int length) {
+        if (pendingWhitespace && statement.length() > 0) {
+            statement.append(' ');
+        }
+        pendingWhitespace = false;
+        statement.append(chars, offset, length);
+    }
 
-                // skip trailing whitespaces
-                if (sb.length() == 0) {
-                    continue;
+    /**
+     * Appends a literal or quoted identifier verbatim. A doubled quote char is an escaped quote char. It is handled
+     * implicitly, since it just closes the quoted chars and immediately opens new ones.
+     */
+    private void readQuoted(char quote, boolean backslashEscapes) throws IOException {
+        appendChar();
+
+        while (ensureAvailable(1)) {
+            int start = position;
+            int end = position;
+            boolean closed = false;
+
+            while (end < limit) {
+                char c = buffer[end++];
+                if (c == quote) {
+                    closed = true;
+                    break;
+                }
+                if (backslashEscapes && c == '\\') {
+                    if (end == limit) {
+                        end--;
+                        break;
+                    }
+                    end++;
                 }
             }
 
-            if (c == '-') {
-                int lookahead = lookahead();
-                if (lookahead != -1) {
-                    if (lookahead == '-') {
-                        comment = true;
-                    }
+            statement.append(buffer, start, end - start);
+            position = end;
+
+            if (closed) {
+                return;
+            }
+
+            if (backslashEscapes && position < limit) {
+                // the escaping backslash is the last char in the buffer
+                if (!ensureAvailable(2)) {
+                    statement.append(buffer[position++]);
+                    return;
                 }
+                statement.append(buffer, position, 2);
+                position += 2;
             }
+        }
+    }
 
-            if (comment) {
-                continue;
+    private void skipLineComment() throws IOException {
+        while (ensureAvailable(1)) {
+            char c = buffer[position++];
+            if (c == '\n' || c == '\r') {
+                break;
             }
+        }
+        pendingWhitespace = true;
+    }
 
-            if (c == ';') {
-                if (statementFiler.test(sb.toString())) {
-                    break;
+    private void readBlockComment() throws IOException {
+        boolean hint = ensureAvailable(3) && buffer[position + 2] == '+';
+        if (hint) {
+            appendToken(buffer, position, 2);
+        }
+        position += 2;
+
+        while (ensureAvailable(1)) {
+            char c = buffer[position];
+            if (c == '*' && ensureAvailable(2) && buffer[position + 1] == '/') {
+                if (hint) {
+                    statement.append("*/");
                 }
-                sb = new StringBuilder(255);
-                comment = false;
-                continue;
+                position += 2;
+                break;
+            }
+            if (hint) {
+                statement.append(c);
             }
+            position++;
+        }
 
-            if (Character.isWhitespace(c)) {
-                sb.append(' ');
-            } else {
-                sb.append(c);
+        if (!hint) {
+            pendingWhitespace = true;
+        }
+    }
+
+    /**
+     * Reads a dollar quoted string if a dollar quote tag like <code>$$</code> or <code>$tag$</code> starts at the
+     * current position. Otherwise the dollar is a plain char, e.g. a positional parameter like <code>$1</code>
+     * or part of an identifier like <code>v$session</code>.
+     */
+    private void readDollar() throws IOException {
+        String tag = getDollarTag();
+        if (tag == null) {
+            appendChar();
+            return;
+        }
+
+        appendToken(buffer, position, tag.length());
+        position += tag.length();
+
+        while (ensureAvailable(1)) {
+            char c = buffer[position];
+            if (c == '$' && ensureAvailable(tag.length()) && regionMatches(tag)) {
+                statement.append(tag);
+                position += tag.length();
+                return;
             }
+            statement.append(c);
+            position++;
         }
+    }
 
-        if (sb.length() == 0) {
+    private String getDollarTag() throws IOException {
+        int statementLength = statement.length();
+        if (!pendingWhitespace && statementLength > 0 && isTagChar(statement.charAt(statementLength - 1))) {
             return null;
         }
-        return sb.toString();
+
+        ensureAvailable(MAX_DOLLAR_TAG_LENGTH);
+
+        int end = position + 1;
+        int maxEnd = Math.min(limit, position + MAX_DOLLAR_TAG_LENGTH);
+        while (end < maxEnd) {
+            char c = buffer[end];
+            if (c == '$') {
+                return new String(buffer, position, end - position + 1);
+            }
+            if (!isTagChar(c) || (end == position + 1 && Character.isDigit(c))) {
+                return null;
+            }
+            end++;
+        }
+        return null;
     }
 
-    private int read() throws IOException {
-        int result = -1;
+    private static boolean isTagChar(char c) {
+        return c == '_' || Character.isLetterOrDigit(c);
+    }
 
-        if (lookaheadChar != -1) {
-            result = lookaheadChar;
-            lookaheadChar = -1;
-        } else {
-            result = reader.read();
+    private boolean regionMatches(String tag) {
+        for (int i = 0; i < tag.length(); i++) {
+            if (buffer[position + i] != tag.charAt(i)) {
+                return false;
+            }
         }
+        return true;
+    }
 
-        return result;
+    /**
+     * Ensures that at least the given number of chars are available in the buffer, unless the end of
+     * the input is reached.
+     *
+     * @return true if the requested number of chars is available.
+     */
+    private boolean ensureAvailable(int chars) throws IOException {
+        while (limit - position < chars) {
+            if (endOfInput) {
+                return false;
+            }
+            fill();
+        }
+        return true;
     }
 
-    private int lookahead() throws IOException {
-        if (lookaheadChar == -1) {
-            lookaheadChar = reader.read();
+    private void fill() throws IOException {
+        int remaining = limit - position;
+        if (remaining > 0 && position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, remaining);
+        }
+        position = 0;
+        limit = remaining;
+
+        int read = reader.read(buffer, limit, buffer.length - limit);
+        if (read == -1) {
+            endOfInput = true;
+        } else {
+            limit += read;
         }
-        return lookaheadChar;
     }
 
     @Override
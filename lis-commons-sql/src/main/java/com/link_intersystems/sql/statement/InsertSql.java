@@ -40,8 +40,7 @@ public class InsertSql {
         Iterator<ColumnValue> columnValueIterator = columnValues.iterator();
         while (columnValueIterator.hasNext()) {
             ColumnValue columnValue = columnValueIterator.next();
-            String columnValueLiteral = tableLiteralFormat.format(columnValue);
-            buf.append(columnValueLiteral);
+            tableLiteralFormat.format(columnValue, buf);
             if (columnValueIterator.hasNext()) {
                 buf.append(", ");
             }
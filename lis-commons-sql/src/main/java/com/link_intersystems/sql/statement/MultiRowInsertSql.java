@@ -0,0 +1,256 @@
+package com.link_intersystems.sql.statement;
+
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link MultiRowInsertSql} collects the rows that should be inserted into a table and renders them either as
+ * multi-row insert statements or executes them as a batch of a parameterized {@link PreparedStatement}. Both need
+ * far fewer statements to be parsed by the database than one {@link InsertSql} per row.
+ *
+ * <pre>
+ * MultiRowInsertSql insertSql = new MultiRowInsertSql("actor", "id", "first_name");
+ * insertSql.addRow(1L, "PENELOPE");
+ * insertSql.addRow(2L, "NICK");
+ *
+ * // insert into actor (id, first_name) values (1, 'PENELOPE'), (2, 'NICK')
+ * List&lt;String&gt; sqlStrings = insertSql.toSqlStrings(tableLiteralFormat);
+ *
+ * // or insert into actor (id, first_name) values (?, ?) with one batch entry per row
+ * insertSql.executeBatch(connection);
+ * </pre>
+ *
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+public class MultiRowInsertSql {
+
+    public static final int DEFAULT_ROWS_PER_STATEMENT = 1000;
+
+    private String tableName;
+    private List<String> columnNames;
+    private List<Object[]> rows = new ArrayList<>();
+
+    private int rowsPerStatement = DEFAULT_ROWS_PER_STATEMENT;
+    private int[] columnTypes;
+
+    public MultiRowInsertSql(String tableName, String... columnNames) {
+        this(tableName, Arrays.asList(columnNames));
+    }
+
+    public MultiRowInsertSql(String tableName, List<String> columnNames) {
+        this.tableName = Objects.requireNonNull(tableName);
+        if (columnNames.isEmpty()) {
+            throw new IllegalArgumentException("columnNames must not be empty");
+        }
+        this.columnNames = new ArrayList<>(columnNames);
+    }
+
+    /**
+     * Sets the maximum number of rows that are rendered into one insert statement by
+     * {@link #toSqlStrings(TableLiteralFormat)} and the maximum number of rows that are added to
+     * one batch by {@link #executeBatch(Connection)}. Defaults to {@value #DEFAULT_ROWS_PER_STATEMENT}.
+     */
+    public void setRowsPerStatement(int rowsPerStatement) {
+        if (rowsPerStatement < 1) {
+            throw new IllegalArgumentException("rowsPerStatement must be 1 or greater");
+        }
+        this.rowsPerStatement = rowsPerStatement;
+    }
+
+    public int getRowsPerStatement() {
+        return rowsPerStatement;
+    }
+
+    /**
+     * Sets the sql types of the columns, as defined by {@link Types}, in the order of the
+     * {@link #getColumnNames() column names}. They are used to bind <code>null</code> values with
+     * {@link PreparedStatement#setNull(int, int)}. If no column types are set, they are taken from the
+     * {@link PreparedStatement#getParameterMetaData() parameter metadata} when the first <code>null</code>
+     * value is bound. If the driver does not provide parameter metadata, {@link Types#NULL} is used.
+     */
+    public void setColumnTypes(int... columnTypes) {
+        if (columnTypes != null && columnTypes.length != columnNames.size()) {
+            String msg = "Expected " + columnNames.size() + " column types, but got " + columnTypes.length;
+            throw new IllegalArgumentException(msg);
+        }
+        this.columnTypes = columnTypes == null ? null : columnTypes.clone();
+    }
+
+    public List<String> getColumnNames() {
+        return Collections.unmodifiableList(columnNames);
+    }
+
+    /**
+     * Adds a row. The values must be in the order of the {@link #getColumnNames() column names}.
+     */
+    public void addRow(Object... values) {
+        if (values.length != columnNames.size()) {
+            String msg = "Expected " + columnNames.size() + " values, but got " + values.length;
+            throw new IllegalArgumentException(msg);
+        }
+        rows.add(values.clone());
+    }
+
+    public void addRow(List<?> values) {
+        addRow(values.toArray());
+    }
+
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    /**
+     * Renders the rows as insert statements with at most {@link #getRowsPerStatement()} rows each, e.g.
+     * <code>insert into actor (id, first_name) values (1, 'PENELOPE'), (2, 'NICK')</code>.
+     */
+    public List<String> toSqlStrings(TableLiteralFormat tableLiteralFormat) throws Exception {
+        List<String> sqlStrings = new ArrayList<>((rows.size() + rowsPerStatement - 1) / rowsPerStatement);
+
+        String insertPrefix = getInsertPrefix();
+        StringBuilder buf = new StringBuilder();
+
+        for (int fromRow = 0; fromRow < rows.size(); fromRow += rowsPerStatement) {
+            int toRow = Math.min(fromRow + rowsPerStatement, rows.size());
+
+            buf.setLength(0);
+            buf.append(insertPrefix);
+
+            for (int rowIndex = fromRow; rowIndex < toRow; rowIndex++) {
+                if (rowIndex > fromRow) {
+                    buf.append(", ");
+                }
+                appendRow(buf, rows.get(rowIndex), tableLiteralFormat);
+            }
+
+            sqlStrings.add(buf.toString());
+        }
+
+        return sqlStrings;
+    }
+
+    private void appendRow(StringBuilder buf, Object[] row, TableLiteralFormat tableLiteralFormat) throws Exception {
+        buf.append('(');
+        for (int columnIndex = 0; columnIndex < row.length; columnIndex++) {
+            if (columnIndex > 0) {
+                buf.append(", ");
+            }
+            ColumnValue columnValue = new ColumnValue(columnNames.get(columnIndex), row[columnIndex]);
+            tableLiteralFormat.format(columnValue, buf);
+        }
+        buf.append(')');
+    }
+
+    /**
+     * @return a parameterized insert statement for one row, e.g.
+     * <code>insert into actor (id, first_name) values (?, ?)</code>.
+     */
+    public String toPreparedSqlString() {
+        StringBuilder buf = new StringBuilder(getInsertPrefix());
+        buf.append('(');
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            buf.append('?');
+        }
+        buf.append(')');
+        return buf.toString();
+    }
+
+    /**
+     * Binds the values of each row to the parameters of the given {@link PreparedStatement} and adds them to
+     * its batch. The {@link PreparedStatement} must have been prepared with the {@link #toPreparedSqlString()}.
+     */
+    public void addBatch(PreparedStatement preparedStatement) throws SQLException {
+        addBatch(preparedStatement, 0, rows.size(), new NullTypes(preparedStatement));
+    }
+
+    private void addBatch(PreparedStatement preparedStatement, int fromRow, int toRow, NullTypes nullTypes) throws SQLException {
+        for (int rowIndex = fromRow; rowIndex < toRow; rowIndex++) {
+            Object[] row = rows.get(rowIndex);
+            for (int columnIndex = 0; columnIndex < row.length; columnIndex++) {
+                Object value = row[columnIndex];
+                if (value == null) {
+                    preparedStatement.setNull(columnIndex + 1, nullTypes.get(columnIndex));
+                } else {
+                    preparedStatement.setObject(columnIndex + 1, value);
+                }
+            }
+            preparedStatement.addBatch();
+        }
+    }
+
+    /**
+     * Inserts the rows using a {@link PreparedStatement} of the {@link #toPreparedSqlString()}. The rows are executed
+     * in batches of at most {@link #getRowsPerStatement()} rows.
+     *
+     * @return the update counts of all rows as returned by {@link PreparedStatement#executeBatch()}.
+     */
+    public int[] executeBatch(Connection connection) throws SQLException {
+        int[] updateCounts = new int[rows.size()];
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(toPreparedSqlString())) {
+            NullTypes nullTypes = new NullTypes(preparedStatement);
+            for (int fromRow = 0; fromRow < rows.size(); fromRow += rowsPerStatement) {
+                int toRow = Math.min(fromRow + rowsPerStatement, rows.size());
+
+                addBatch(preparedStatement, fromRow, toRow, nullTypes);
+                int[] batchUpdateCounts = preparedStatement.executeBatch();
+                System.arraycopy(batchUpdateCounts, 0, updateCounts, fromRow, Math.min(batchUpdateCounts.length, toRow - fromRow));
+            }
+        }
+
+        return updateCounts;
+    }
+
+    private String getInsertPrefix() {
+        StringBuilder buf = new StringBuilder(tableName.length() + columnNames.size() * 15 + 30);
+        buf.append("insert into ").append(tableName).append(" (");
+        buf.append(String.join(", ", columnNames));
+        buf.append(") values ");
+        return buf.toString();
+    }
+
+    /**
+     * Resolves the sql types that are used to bind <code>null</code> values once they are needed, so that the
+     * parameter metadata is only requested if there are <code>null</code> values at all.
+     */
+    private class NullTypes {
+
+        private final PreparedStatement preparedStatement;
+        private int[] types;
+
+        NullTypes(PreparedStatement preparedStatement) {
+            this.preparedStatement = preparedStatement;
+        }
+
+        int get(int columnIndex) {
+            if (types == null) {
+                types = columnTypes != null ? columnTypes : getParameterTypes();
+            }
+            return types[columnIndex];
+        }
+
+        private int[] getParameterTypes() {
+            int[] parameterTypes = new int[columnNames.size()];
+            try {
+                ParameterMetaData parameterMetaData = preparedStatement.getParameterMetaData();
+                for (int i = 0; i < parameterTypes.length; i++) {
+                    parameterTypes[i] = parameterMetaData.getParameterType(i + 1);
+                }
+            } catch (SQLException e) {
+                // Not every driver can describe the parameters of a statement.
+                Arrays.fill(parameterTypes, Types.NULL);
+            }
+            return parameterTypes;
+        }
+    }
+}
@@ -5,4 +5,13 @@ package com.link_intersystems.sql.statement;
  */
 public interface TableLiteralFormat {
     String format(ColumnValue columnValue) throws Exception;
+
+    /**
+     * Appends the literal of the column value to the given {@link Appendable}.
+     *
+     * @see com.link_intersystems.sql.format.LiteralFormat#format(Object, Appendable)
+     */
+    default void format(ColumnValue columnValue, Appendable appendable) throws Exception {
+        appendable.append(format(columnValue));
+    }
 }
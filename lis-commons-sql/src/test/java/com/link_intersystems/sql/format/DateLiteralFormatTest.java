@@ -3,8 +3,10 @@ package com.link_intersystems.sql.format;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-
 import java.sql.Date;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -28,4 +30,16 @@ class DateLiteralFormatTest {
 
         assertEquals("'2022-05-21'", formatted);
     }
-}
\ No newline at end of file
+
+    @Test
+    void formatIsoDatePattern() throws Exception {
+        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        literalFormat = new DateLiteralFormat(dateTimeFormatter, ZoneOffset.UTC);
+
+        for (LocalDate localDate : new LocalDate[]{LocalDate.of(1, 1, 1), LocalDate.of(2022, 5, 21), LocalDate.of(9999, 12, 31)}) {
+            String formatted = literalFormat.format(Date.valueOf(localDate));
+
+            assertEquals("'" + dateTimeFormatter.format(localDate) + "'", formatted);
+        }
+    }
+}
@@ -22,4 +22,17 @@ class DefaultTableLiteralFormatTest {
         String formatted = tableLiteralFormat.format(new ColumnValue("col1", "value"));
         Assertions.assertEquals("\"value\"", formatted);
     }
-}
\ No newline at end of file
+
+    @Test
+    void formatToAppendable() throws Exception {
+        DefaultTableLiteralFormat tableLiteralFormat = new DefaultTableLiteralFormat();
+        tableLiteralFormat.addLiteralFormat("col1", new QuotedStringLiteralFormat());
+
+        StringBuilder sb = new StringBuilder();
+        tableLiteralFormat.format(new ColumnValue("col1", "value"), sb);
+        sb.append(", ");
+        tableLiteralFormat.format(new ColumnValue("col2", 1), sb);
+
+        Assertions.assertEquals("'value', 1", sb.toString());
+    }
+}
@@ -0,0 +1,53 @@
+package com.link_intersystems.sql.format;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+class QuotedStringLiteralFormatTest {
+
+    private QuotedStringLiteralFormat literalFormat;
+
+    @BeforeEach
+    void setUp() {
+        literalFormat = new QuotedStringLiteralFormat();
+    }
+
+    @Test
+    void format() throws Exception {
+        assertEquals("'PENELOPE'", literalFormat.format("PENELOPE"));
+    }
+
+    @Test
+    void formatEscapesQuotes() throws Exception {
+        assertEquals("'it''s a ''test'''", literalFormat.format("it's a 'test'"));
+    }
+
+    @Test
+    void formatMultiCharQuote() throws Exception {
+        QuotedStringLiteralFormat literalFormat = new QuotedStringLiteralFormat("$$");
+
+        assertEquals("$$a$$$$b$c$$", literalFormat.format("a$$b$c"));
+    }
+
+    @Test
+    void formatToAppendable() throws Exception {
+        StringBuilder sb = new StringBuilder("values (");
+
+        literalFormat.format("it's", sb);
+        sb.append(", ");
+        literalFormat.format(null, sb);
+
+        assertEquals("values ('it''s', null", sb.toString());
+    }
+
+    @Test
+    void emptyQuote() {
+        assertThrows(IllegalArgumentException.class, () -> new QuotedStringLiteralFormat(""));
+    }
+}
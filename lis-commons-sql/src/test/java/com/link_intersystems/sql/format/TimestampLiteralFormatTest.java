@@ -4,7 +4,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -46,4 +51,62 @@ class TimestampLiteralFormatTest {
 
         assertEquals("'2022-05-21 12:11:34'", formatted);
     }
-}
\ No newline at end of file
+
+    @Test
+    void formatToAppendable() throws Exception {
+        StringBuilder sb = new StringBuilder();
+
+        literalFormat.format(new java.sql.Date(122, 4, 21), sb);
+
+        assertEquals("'2022-05-21 00:00:00'", sb.toString());
+    }
+
+    @Test
+    void formatOtherPattern() throws Exception {
+        literalFormat = new TimestampLiteralFormat(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS"), ZoneId.systemDefault());
+        Timestamp date = Timestamp.valueOf(LocalDateTime.of(2022, 5, 21, 12, 11, 34, 332000000));
+
+        String formatted = literalFormat.format(date);
+
+        assertEquals("'2022-05-21T12:11:34.332'", formatted);
+    }
+
+    @Test
+    void zoneIdResolvedOnce() throws Exception {
+        AtomicInteger zoneIdRequests = new AtomicInteger();
+        literalFormat = new TimestampLiteralFormat(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"), () -> {
+            zoneIdRequests.incrementAndGet();
+            return ZoneId.of("UTC");
+        });
+
+        assertEquals("'1970-01-01 00:00:00'", literalFormat.format(new Date(0)));
+        assertEquals("'1970-01-01 00:00:01'", literalFormat.format(new Date(1000)));
+
+        assertEquals(1, zoneIdRequests.get());
+    }
+
+    @Test
+    void formatYearAfter9999() throws Exception {
+        literalFormat = new TimestampLiteralFormat(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"), ZoneOffset.UTC);
+        Date date = toDate(LocalDateTime.of(10000, 1, 2, 3, 4, 5));
+
+        String formatted = literalFormat.format(date);
+
+        assertEquals("'+10000-01-02 03:04:05'", formatted);
+    }
+
+    @Test
+    void formatYearBefore1() throws Exception {
+        literalFormat = new TimestampLiteralFormat(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"), ZoneOffset.UTC);
+        Date date = toDate(LocalDateTime.of(0, 1, 2, 3, 4, 5));
+
+        String formatted = literalFormat.format(date);
+
+        // yyyy is the year of era and the year 0 is the year 1 before christ.
+        assertEquals("'0001-01-02 03:04:05'", formatted);
+    }
+
+    private Date toDate(LocalDateTime localDateTime) {
+        return new Date(localDateTime.toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+}
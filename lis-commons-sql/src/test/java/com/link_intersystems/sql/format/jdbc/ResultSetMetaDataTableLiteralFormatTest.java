@@ -1,20 +1,21 @@
 package com.link_intersystems.sql.format.jdbc;
 
 import com.link_intersystems.sql.format.DecimalLiteralFormat;
+import com.link_intersystems.sql.format.LiteralFormat;
 import com.link_intersystems.sql.format.LiteralFormatRegistry;
+import com.link_intersystems.sql.format.QuotedStringLiteralFormat;
 import com.link_intersystems.sql.statement.ColumnValue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mockito;
 
 import java.math.BigDecimal;
 import java.sql.ResultSetMetaData;
 import java.sql.Types;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 /**
  * @author René Link {@literal <rene.link@link-intersystems.com>}
@@ -68,4 +69,59 @@ class ResultSetMetaDataTableLiteralFormatTest {
         assertEquals("123.456", formatted);
     }
 
-}
\ No newline at end of file
+    @Test
+    void metaDataResolvedOnce() throws Exception {
+        when(resultSetMetaData.getColumnCount()).thenReturn(2);
+        when(resultSetMetaData.getColumnName(1)).thenReturn("amount");
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.DECIMAL);
+        when(resultSetMetaData.getColumnName(2)).thenReturn("name");
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+
+        assertEquals("123.456", literalFormat.format(new ColumnValue("amount", new BigDecimal("123.456"))));
+        assertEquals("'A'", literalFormat.format(new ColumnValue("name", "A")));
+        assertEquals("'B'", literalFormat.format(new ColumnValue("name", "B")));
+
+        verify(resultSetMetaData, times(1)).getColumnCount();
+        verify(resultSetMetaData, times(1)).getColumnName(2);
+        verify(resultSetMetaData, times(1)).getColumnType(2);
+    }
+
+    @Test
+    void formatByColumnIndex() throws Exception {
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnName(1)).thenReturn("name");
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.VARCHAR);
+
+        assertEquals("'A'", literalFormat.format(1, "A"));
+        assertThrows(IllegalArgumentException.class, () -> literalFormat.format(2, "A"));
+    }
+
+    @Test
+    void changedRegistryIsApplied() throws Exception {
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnName(1)).thenReturn("amount");
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.DECIMAL);
+
+        ColumnValue columnValue = new ColumnValue("amount", new BigDecimal("123.456"));
+        assertEquals("123.456", literalFormat.format(columnValue));
+
+        JdbcLiteralFormatRegistry literalRegistry = new JdbcLiteralFormatRegistry();
+        literalRegistry.put(new QuotedStringLiteralFormat(), Types.DECIMAL);
+        literalFormat.setLiteralFormatRegistry(literalRegistry);
+
+        assertEquals("'123.456'", literalFormat.format(columnValue));
+
+        literalRegistry.put(new DecimalLiteralFormat(), Types.DECIMAL);
+        assertEquals("123.456", literalFormat.format(columnValue));
+
+        for (Map.Entry<Integer, LiteralFormat> entry : literalRegistry.entrySet()) {
+            if (entry.getKey() == Types.DECIMAL) {
+                entry.setValue(new QuotedStringLiteralFormat());
+            }
+        }
+        assertEquals("'123.456'", literalFormat.format(columnValue));
+
+        literalRegistry.remove(Types.DECIMAL);
+        assertEquals("123.456", literalFormat.format(columnValue));
+    }
+}
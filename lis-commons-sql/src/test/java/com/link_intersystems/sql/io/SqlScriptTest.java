@@ -1,13 +1,25 @@
 package com.link_intersystems.sql.io;
 
 import com.link_intersystems.test.io.ResetableReader;
+import com.link_intersystems.util.concurrent.ProgressListener;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 /**
@@ -79,4 +91,210 @@ class SqlScriptTest {
         sqlScript.execute(connection);
         verifyNoInteractions(connection);
     }
-}
\ No newline at end of file
+
+    @Test
+    void executeInBatches() throws SQLException {
+        SqlScript sqlScript = new SqlScript("insert 1; insert 2; insert 3; insert 4; insert 5;");
+        sqlScript.setBatchSize(2);
+        ProgressListener progressListener = mock(ProgressListener.class);
+        sqlScript.setProgressListener(progressListener);
+
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        sqlScript.execute(connection);
+
+        InOrder statementOrder = inOrder(statement);
+        statementOrder.verify(statement).addBatch("insert 1");
+        statementOrder.verify(statement).addBatch("insert 2");
+        statementOrder.verify(statement).executeBatch();
+        statementOrder.verify(statement).addBatch("insert 3");
+        statementOrder.verify(statement).addBatch("insert 4");
+        statementOrder.verify(statement).executeBatch();
+        statementOrder.verify(statement).addBatch("insert 5");
+        statementOrder.verify(statement).executeBatch();
+        verify(connection, never()).commit();
+
+        InOrder progressOrder = inOrder(progressListener);
+        progressOrder.verify(progressListener).begin(anyString(), eq(SqlScript.UNKNOWN_TOTAL_WORK));
+        progressOrder.verify(progressListener, times(2)).worked(2);
+        progressOrder.verify(progressListener).worked(1);
+        progressOrder.verify(progressListener).done();
+    }
+
+    @Test
+    void commitPerBatch() throws SQLException {
+        SqlScript sqlScript = new SqlScript("insert 1; insert 2; insert 3;");
+        sqlScript.setBatchSize(2);
+        sqlScript.setCommitPerBatch(true);
+
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.getAutoCommit()).thenReturn(true);
+        sqlScript.execute(connection);
+
+        InOrder inOrder = inOrder(connection, statement);
+        inOrder.verify(connection).setAutoCommit(false);
+        inOrder.verify(statement).executeBatch();
+        inOrder.verify(connection).commit();
+        inOrder.verify(statement).executeBatch();
+        inOrder.verify(connection).commit();
+        inOrder.verify(connection).setAutoCommit(true);
+    }
+
+    @Test
+    void commitPerBatchRollback() throws SQLException {
+        SqlScript sqlScript = new SqlScript("insert 1; insert 2; insert 3;");
+        sqlScript.setBatchSize(2);
+        sqlScript.setCommitPerBatch(true);
+
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.getAutoCommit()).thenReturn(true);
+        SQLException batchException = new SQLException();
+        when(statement.executeBatch()).thenReturn(new int[2]).thenThrow(batchException);
+
+        SQLException thrown = assertThrows(SQLException.class, () -> sqlScript.execute(connection));
+        assertSame(batchException, thrown);
+
+        InOrder inOrder = inOrder(connection);
+        inOrder.verify(connection).setAutoCommit(false);
+        inOrder.verify(connection, times(1)).commit();
+        inOrder.verify(connection).rollback();
+        inOrder.verify(connection).setAutoCommit(true);
+    }
+
+    @Test
+    void commitPerBatchRollbackFailure() throws SQLException {
+        SqlScript sqlScript = new SqlScript("insert 1; insert 2; insert 3;");
+        sqlScript.setBatchSize(2);
+        sqlScript.setCommitPerBatch(true);
+
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.getAutoCommit()).thenReturn(true);
+        SQLException batchException = new SQLException();
+        when(statement.executeBatch()).thenThrow(batchException);
+        SQLException rollbackException = new SQLException();
+        doThrow(rollbackException).when(connection).rollback();
+
+        SQLException thrown = assertThrows(SQLException.class, () -> sqlScript.execute(connection));
+
+        assertSame(batchException, thrown);
+        assertArrayEquals(new Throwable[]{rollbackException}, thrown.getSuppressed());
+        verify(connection).setAutoCommit(true);
+    }
+
+    @Test
+    void commitPerBatchInCallersTransaction() throws SQLException {
+        SqlScript sqlScript = new SqlScript("insert 1; insert 2; insert 3;");
+        sqlScript.setBatchSize(2);
+        sqlScript.setCommitPerBatch(true);
+
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.getAutoCommit()).thenReturn(false);
+        when(statement.executeBatch()).thenReturn(new int[2]).thenThrow(new SQLException());
+
+        assertThrows(SQLException.class, () -> sqlScript.execute(connection));
+
+        verify(connection, never()).commit();
+        verify(connection, never()).rollback();
+        verify(connection, never()).setAutoCommit(anyBoolean());
+    }
+
+    @Test
+    void negativeBatchSize() {
+        SqlScript sqlScript = new SqlScript("");
+
+        assertThrows(IllegalArgumentException.class, () -> sqlScript.setBatchSize(-1));
+    }
+
+    @Test
+    void executeParallel() throws SQLException {
+        SqlScript sqlScript = new SqlScript("insert into a values (1); insert into b values (1);" +
+                "insert into a values (2); insert into b values (2);");
+
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection1 = mock(Connection.class);
+        Connection connection2 = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(dataSource.getConnection()).thenReturn(connection1, connection2);
+        when(connection1.createStatement()).thenReturn(statement);
+        when(connection2.createStatement()).thenReturn(statement);
+
+        sqlScript.execute(dataSource, sql -> sql.split(" ")[2], 2);
+
+        verify(statement).addBatch("insert into a values (1)");
+        verify(statement).addBatch("insert into a values (2)");
+        verify(statement).addBatch("insert into b values (1)");
+        verify(statement).addBatch("insert into b values (2)");
+        verify(statement, times(2)).executeBatch();
+        verify(connection1).commit();
+        verify(connection2).commit();
+        verify(connection1).close();
+        verify(connection2).close();
+    }
+
+    @Test
+    void executeParallelFailure() throws SQLException {
+        SqlScript sqlScript = new SqlScript("insert into a values (1); insert into b values (1);");
+
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        SQLException batchException = new SQLException();
+        when(statement.executeBatch()).thenThrow(batchException);
+
+        SQLException thrown = assertThrows(SQLException.class, () -> sqlScript.execute(dataSource, sql -> sql.split(" ")[2], 2));
+
+        assertSame(batchException, thrown);
+        verify(connection, never()).commit();
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void executeParallelInterrupted() throws Exception {
+        SqlScript sqlScript = new SqlScript("insert into a values (1); insert into b values (1);");
+
+        List<Thread> workerThreads = new CopyOnWriteArrayList<>();
+        CountDownLatch workersStarted = new CountDownLatch(2);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            workerThreads.add(Thread.currentThread());
+            workersStarted.countDown();
+            Connection connection = mock(Connection.class);
+            when(connection.createStatement()).thenReturn(mock(Statement.class));
+            return connection;
+        });
+
+        StatementPartitioner interruptingPartitioner = sql -> {
+            try {
+                assertTrue(workersStarted.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            // the dispatching thread is interrupted while it puts the statement into a worker's queue.
+            Thread.currentThread().interrupt();
+            return sql.split(" ")[2];
+        };
+
+        try {
+            assertThrows(SQLException.class, () -> sqlScript.execute(dataSource, interruptingPartitioner, 2));
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+
+        assertFalse(workerThreads.isEmpty());
+        for (Thread workerThread : workerThreads) {
+            workerThread.join(TimeUnit.SECONDS.toMillis(10));
+            assertFalse(workerThread.isAlive(), "worker thread terminated");
+        }
+    }
+}
@@ -6,6 +6,11 @@ import org.junit.jupiter.api.Test;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -54,4 +59,81 @@ class StatementReaderTest {
         assertThrows(IOException.class, () -> statementReader.hasNext());
     }
 
-}
\ No newline at end of file
+    @Test
+    void semicolonInLiterals() throws IOException {
+        resetableReader.setCharSequence("insert into t values ('a;  b', 'it''s;');\n" +
+                "select \"x;y\", `a;b` from t;");
+
+        assertEquals(asList("insert into t values ('a;  b', 'it''s;')", "select \"x;y\", `a;b` from t"), readAll(statementReader));
+    }
+
+    @Test
+    void backslashEscapes() throws IOException {
+        resetableReader.setCharSequence("select 'it\\'s;' from t; select 1");
+        statementReader.setBackslashEscapes(true);
+
+        assertEquals(asList("select 'it\\'s;' from t", "select 1"), readAll(statementReader));
+    }
+
+    @Test
+    void blockComments() throws IOException {
+        resetableReader.setCharSequence("/* a; comment */select/* ; */1;\nselect /*+ INDEX(a) */ * from a;/* trailing */");
+
+        assertEquals(asList("select 1", "select /*+ INDEX(a) */ * from a"), readAll(statementReader));
+    }
+
+    @Test
+    void lineComments() throws IOException {
+        resetableReader.setCharSequence("select 1 -- a; comment\n  from dual;\r\n-- only comment;\n");
+
+        assertEquals(asList("select 1 from dual"), readAll(statementReader));
+    }
+
+    @Test
+    void dollarQuotes() throws IOException {
+        resetableReader.setCharSequence("create function f() returns int as $body$ begin; return 1; end; $body$ language plpgsql;" +
+                "select $$a;b$$, $1, v$session from t;");
+
+        assertEquals(asList("create function f() returns int as $body$ begin; return 1; end; $body$ language plpgsql",
+                "select $$a;b$$, $1, v$session from t"), readAll(statementReader));
+    }
+
+    @Test
+    void emptyStatements() throws IOException {
+        resetableReader.setCharSequence(" ; ;\n select 1 ;;");
+
+        assertEquals(asList("select 1"), readAll(statementReader));
+    }
+
+    @Test
+    void statementsSpanningBuffers() throws IOException {
+        StringBuilder script = new StringBuilder();
+        List<String> expectedStatements = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String statement = "insert into t values (" + i + ", 'value;" + i + "', $tag$" + i + ";$tag$)";
+            expectedStatements.add(statement);
+            script.append("-- comment ").append(i).append("\n").append(statement).append("; /* ").append(i).append(" */\n");
+        }
+
+        StatementReader smallBufferReader = new StatementReader(new StringReader(script.toString()), 64);
+
+        assertEquals(expectedStatements, readAll(smallBufferReader));
+    }
+
+    @Test
+    void filterLastStatement() throws IOException {
+        resetableReader.setCharSequence("select * from film; select * from actor");
+
+        statementReader.setStatementFilter(s -> s.contains("film"));
+
+        assertEquals(asList("select * from film"), readAll(statementReader));
+    }
+
+    private List<String> readAll(StatementReader statementReader) throws IOException {
+        List<String> statements = new ArrayList<>();
+        while (statementReader.hasNext()) {
+            statements.add(statementReader.next());
+        }
+        return statements;
+    }
+}
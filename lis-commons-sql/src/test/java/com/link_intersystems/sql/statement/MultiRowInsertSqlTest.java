@@ -0,0 +1,164 @@
+package com.link_intersystems.sql.statement;
+
+import com.link_intersystems.sql.format.DefaultTableLiteralFormat;
+import com.link_intersystems.sql.format.QuotedStringLiteralFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author René Link {@literal <rene.link@link-intersystems.com>}
+ */
+class MultiRowInsertSqlTest {
+
+    private MultiRowInsertSql insertSql;
+
+    @BeforeEach
+    void setUp() {
+        insertSql = new MultiRowInsertSql("actor", "id", "first_name");
+        insertSql.addRow(1L, "PENELOPE");
+        insertSql.addRow(2L, "NICK");
+        insertSql.addRow(Arrays.asList(3L, "ED"));
+    }
+
+    @Test
+    void toSqlStrings() throws Exception {
+        DefaultTableLiteralFormat tableLiteralFormat = new DefaultTableLiteralFormat();
+        tableLiteralFormat.addLiteralFormat("first_name", new QuotedStringLiteralFormat());
+
+        List<String> sqlStrings = insertSql.toSqlStrings(tableLiteralFormat);
+
+        assertEquals(Arrays.asList("insert into actor (id, first_name) values (1, 'PENELOPE'), (2, 'NICK'), (3, 'ED')"), sqlStrings);
+    }
+
+    @Test
+    void toSqlStringsWithRowsPerStatement() throws Exception {
+        DefaultTableLiteralFormat tableLiteralFormat = new DefaultTableLiteralFormat();
+        tableLiteralFormat.addLiteralFormat("first_name", new QuotedStringLiteralFormat());
+        insertSql.setRowsPerStatement(2);
+
+        List<String> sqlStrings = insertSql.toSqlStrings(tableLiteralFormat);
+
+        assertEquals(Arrays.asList(
+                "insert into actor (id, first_name) values (1, 'PENELOPE'), (2, 'NICK')",
+                "insert into actor (id, first_name) values (3, 'ED')"), sqlStrings);
+    }
+
+    @Test
+    void toSqlStringsNoRows() throws Exception {
+        MultiRowInsertSql emptyInsertSql = new MultiRowInsertSql("actor", "id");
+
+        assertTrue(emptyInsertSql.toSqlStrings(new DefaultTableLiteralFormat()).isEmpty());
+    }
+
+    @Test
+    void toPreparedSqlString() {
+        assertEquals("insert into actor (id, first_name) values (?, ?)", insertSql.toPreparedSqlString());
+    }
+
+    @Test
+    void addRowWithWrongValueCount() {
+        assertThrows(IllegalArgumentException.class, () -> insertSql.addRow(4L));
+    }
+
+    @Test
+    void illegalRowsPerStatement() {
+        assertThrows(IllegalArgumentException.class, () -> insertSql.setRowsPerStatement(0));
+    }
+
+    @Test
+    void executeBatch() throws Exception {
+        Connection connection = mock(Connection.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("insert into actor (id, first_name) values (?, ?)")).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1}, new int[]{1});
+        insertSql.setRowsPerStatement(2);
+
+        int[] updateCounts = insertSql.executeBatch(connection);
+
+        assertArrayEquals(new int[]{1, 1, 1}, updateCounts);
+
+        InOrder inOrder = inOrder(preparedStatement);
+        inOrder.verify(preparedStatement).setObject(1, 1L);
+        inOrder.verify(preparedStatement).setObject(2, "PENELOPE");
+        inOrder.verify(preparedStatement).addBatch();
+        inOrder.verify(preparedStatement).setObject(1, 2L);
+        inOrder.verify(preparedStatement).setObject(2, "NICK");
+        inOrder.verify(preparedStatement).addBatch();
+        inOrder.verify(preparedStatement).executeBatch();
+        inOrder.verify(preparedStatement).setObject(1, 3L);
+        inOrder.verify(preparedStatement).setObject(2, "ED");
+        inOrder.verify(preparedStatement).addBatch();
+        inOrder.verify(preparedStatement).executeBatch();
+        inOrder.verify(preparedStatement).close();
+    }
+
+    @Test
+    void addBatchWithNullValue() throws Exception {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ParameterMetaData parameterMetaData = mock(ParameterMetaData.class);
+        when(preparedStatement.getParameterMetaData()).thenReturn(parameterMetaData);
+        when(parameterMetaData.getParameterType(1)).thenReturn(Types.INTEGER);
+        when(parameterMetaData.getParameterType(2)).thenReturn(Types.VARCHAR);
+        insertSql.addRow(4L, null);
+        insertSql.addRow(null, null);
+
+        insertSql.addBatch(preparedStatement);
+
+        verify(preparedStatement).setObject(1, 4L);
+        verify(preparedStatement, times(2)).setNull(2, Types.VARCHAR);
+        verify(preparedStatement).setNull(1, Types.INTEGER);
+        verify(preparedStatement, never()).setObject(anyInt(), isNull());
+        verify(preparedStatement, times(1)).getParameterMetaData();
+        verify(preparedStatement, times(5)).addBatch();
+    }
+
+    @Test
+    void addBatchWithoutNullValues() throws Exception {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+
+        insertSql.addBatch(preparedStatement);
+
+        verify(preparedStatement, never()).getParameterMetaData();
+    }
+
+    @Test
+    void addBatchWithNullValueAndColumnTypes() throws Exception {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        insertSql.setColumnTypes(Types.BIGINT, Types.NVARCHAR);
+        insertSql.addRow(null, null);
+
+        insertSql.addBatch(preparedStatement);
+
+        verify(preparedStatement).setNull(1, Types.BIGINT);
+        verify(preparedStatement).setNull(2, Types.NVARCHAR);
+        verify(preparedStatement, never()).getParameterMetaData();
+    }
+
+    @Test
+    void addBatchWithNullValueWithoutParameterMetaData() throws Exception {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(preparedStatement.getParameterMetaData()).thenThrow(new SQLFeatureNotSupportedException());
+        insertSql.addRow(4L, null);
+
+        insertSql.addBatch(preparedStatement);
+
+        verify(preparedStatement).setNull(2, Types.NULL);
+    }
+
+    @Test
+    void wrongColumnTypeCount() {
+        assertThrows(IllegalArgumentException.class, () -> insertSql.setColumnTypes(Types.BIGINT));
+    }
+}